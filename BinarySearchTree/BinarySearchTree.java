@@ -17,6 +17,7 @@ import java.util.*;
  * - Search: O(h) where h is height (O(log n) balanced, O(n) skewed)
  * - Insert: O(h)
  * - Delete: O(h)
+ * - kthSmallest / rank / countInRange / median: O(h) (subtree sizes, no allocation)
  * - Traversals: O(n)
  * 
  * Space Complexity: O(n) for storage, O(h) for recursion stack
@@ -32,11 +33,13 @@ public class BinarySearchTree {
         int data;
         Node left;
         Node right;
+        int size; // number of nodes in this subtree (order-statistic augmentation)
         
         public Node(int data) {
             this.data = data;
             this.left = null;
             this.right = null;
+            this.size = 1;
         }
     }
     
@@ -82,6 +85,7 @@ public class BinarySearchTree {
         }
         // Note: Duplicate values are not inserted
         
+        updateSize(node);
         return node;
     }
     
@@ -172,9 +176,24 @@ public class BinarySearchTree {
             size++; // Compensate for extra decrement in recursive call
         }
         
+        updateSize(node);
         return node;
     }
     
+    /**
+     * Size of a subtree (0 for null)
+     */
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+    
+    /**
+     * Recompute a node's subtree size from its children
+     */
+    private static void updateSize(Node node) {
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+    
     /**
      * Find minimum value in a subtree
      * @param node Root of subtree
@@ -359,24 +378,91 @@ public class BinarySearchTree {
     
     /**
      * Find kth smallest element in BST
+     * Descends using subtree sizes: no traversal, no allocation
      * @param k Position (1-indexed)
      * @return kth smallest element
+     * Time Complexity: O(h)
      */
     public int kthSmallest(int k) {
-        List<Integer> result = new ArrayList<>();
-        inorderForKth(root, result, k);
-        if (k <= result.size()) {
-            return result.get(k - 1);
+        if (k < 1) throw new IllegalArgumentException("k must be positive");
+        if (k > sizeOf(root)) throw new IllegalArgumentException("k is larger than tree size");
+        
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (k <= leftSize) {
+                node = node.left;
+            } else if (k == leftSize + 1) {
+                return node.data;
+            } else {
+                k -= leftSize + 1;
+                node = node.right;
+            }
         }
-        throw new IllegalArgumentException("k is larger than tree size");
     }
     
-    private void inorderForKth(Node node, List<Integer> result, int k) {
-        if (node == null || result.size() >= k) return;
-        
-        inorderForKth(node.left, result, k);
-        result.add(node.data);
-        inorderForKth(node.right, result, k);
+    /**
+     * Count values strictly less than x (x need not be in the tree)
+     * @param x Value to rank
+     * @return Number of values < x
+     * Time Complexity: O(h)
+     */
+    public int rank(int x) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (x <= node.data) {
+                node = node.left;
+            } else {
+                count += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Count values less than or equal to x
+     * Time Complexity: O(h)
+     */
+    private int countAtMost(int x) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (x < node.data) {
+                node = node.left;
+            } else {
+                count += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Count values in [lo, hi]
+     * @param lo Minimum value (inclusive)
+     * @param hi Maximum value (inclusive)
+     * @return Number of values in range
+     * Time Complexity: O(h)
+     */
+    public int countInRange(int lo, int hi) {
+        if (lo > hi) return 0;
+        return countAtMost(hi) - rank(lo);
+    }
+    
+    /**
+     * Median of the values (mean of the two middle values for an even count)
+     * @return Median
+     * Time Complexity: O(h)
+     */
+    public double median() {
+        int n = sizeOf(root);
+        if (n == 0) throw new RuntimeException("Tree is empty");
+        if (n % 2 == 1) {
+            return kthSmallest(n / 2 + 1);
+        }
+        return ((long) kthSmallest(n / 2) + kthSmallest(n / 2 + 1)) / 2.0;
     }
     
     /**
@@ -536,6 +622,9 @@ public class BinarySearchTree {
         System.out.println("3rd smallest element: " + bst.kthSmallest(3));
         System.out.println("LCA of 20 and 40: " + bst.findLCA(20, 40));
         System.out.println("Range query [30, 50]: " + bst.rangeQuery(30, 50));
+        System.out.println("Count in range [30, 50]: " + bst.countInRange(30, 50));
+        System.out.println("Rank of 45 (values < 45): " + bst.rank(45));
+        System.out.println("Median: " + bst.median());
         
         // Convert to sorted array
         System.out.println("BST as sorted array: " + Arrays.toString(bst.toSortedArray()));
@@ -549,7 +638,8 @@ public class BinarySearchTree {
             boolean deleted = bst.delete(value);
             System.out.println("Deleted: " + deleted);
             bst.displayTree();
-            System.out.println("Size after deletion: " + bst.size());
+            System.out.println("Size after deletion: " + bst.size() +
+                             " (subtree sizes agree: " + (sizeOf(bst.root) == bst.countNodes()) + ")");
             bst.inorderTraversal();
         }
         
@@ -576,6 +666,36 @@ public class BinarySearchTree {
         System.out.println("Size after duplicate insert: " + singleNodeBST.size() + 
                          " (should be same as before: " + originalSize + ")");
         
+        // Order statistics on a large tree
+        System.out.println("\n8. Testing Order Statistics at Scale:");
+        BinarySearchTree large = new BinarySearchTree();
+        Random random = new Random(10);
+        int[] keys = new int[1_000_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+            large.insert(keys[i]);
+        }
+        for (int i = 0; i < keys.length; i += 3) large.delete(keys[i]);
+        int[] sorted = large.toSortedArray();
+        boolean correct = sorted.length == large.size();
+        for (int i = 0; i < 1000; i++) {
+            int k = 1 + random.nextInt(sorted.length);
+            correct &= large.kthSmallest(k) == sorted[k - 1];
+            correct &= large.rank(sorted[k - 1]) == k - 1;
+        }
+        System.out.println("kthSmallest/rank match sorted array: " + correct);
+        
+        int queries = 1_000_000;
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < queries; i++) {
+            checksum += large.kthSmallest(1 + random.nextInt(sorted.length));
+            checksum += large.countInRange(random.nextInt(Integer.MAX_VALUE / 2), Integer.MAX_VALUE / 2 + random.nextInt(1000));
+        }
+        System.out.printf("%d kthSmallest + countInRange pairs on %d keys: %.3f us each (checksum %d)%n",
+                queries, large.size(), (System.nanoTime() - start) / 1e3 / queries, checksum % 1000);
+        System.out.println("Median: " + large.median());
+        
         System.out.println("\n=== BST Demo Complete ===");
     }
 }
@@ -0,0 +1,430 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * K-Way Merge using a Loser Tree (Tournament Tree)
+ *
+ * Merges k already-sorted runs into one sorted output stream.
+ * Unlike a binary heap (see MaxHeap / MinHeap), which needs about 2 comparisons
+ * per level on every sift-down, a loser tree stores the LOSER of each match in
+ * the internal nodes. Replacing the winner only replays the matches on the path
+ * from its leaf to the root: exactly one comparison per level.
+ *
+ * Layout (Knuth, TAOCP Vol. 3, 5.4.1):
+ * - tree[0]      : index of the overall winner (smallest current key)
+ * - tree[1..k-1] : index of the loser of the match played at that node
+ * - leaf of run s sits at virtual position k + s, its parent is (k + s) / 2
+ *
+ * Runs are read through RunSource (in-memory int[] / long[] or NIO file channels)
+ * and merged output is handed to a LongSink in batches, so the per-element cost
+ * stays a handful of array accesses plus log2(k) comparisons.
+ *
+ * Time Complexities:
+ * - Build: O(k)
+ * - Per output element: O(log k), one comparison per level
+ * - Full merge of N elements: O(N log k)
+ *
+ * Space Complexity: O(k) + output batch buffer
+ */
+public class LoserTreeMerger implements Closeable {
+
+    /** Default number of elements handed to the sink per batch */
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private final RunSource[] sources;
+    private final int k;
+    private final int[] tree;          // tree[0] = winner, tree[1..k-1] = losers
+    private final long[] keys;         // current head key of every run
+    private final boolean[] exhausted; // true once a run has no more elements
+    private final long[] batch;        // output buffer
+
+    /**
+     * Constructor
+     * @param sources Sorted runs to merge (ascending order)
+     * @param batchSize Number of elements collected before each sink call
+     * @throws IOException if a source fails while reading its first element
+     */
+    public LoserTreeMerger(RunSource[] sources, int batchSize) throws IOException {
+        if (sources.length == 0) {
+            throw new IllegalArgumentException("At least one run is required");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.sources = sources;
+        this.k = sources.length;
+        this.tree = new int[k];
+        this.keys = new long[k];
+        this.exhausted = new boolean[k];
+        this.batch = new long[batchSize];
+        build();
+    }
+
+    public LoserTreeMerger(RunSource[] sources) throws IOException {
+        this(sources, DEFAULT_BATCH_SIZE);
+    }
+
+    // ==================== CORE LOSER TREE OPERATIONS ====================
+
+    /**
+     * Build the tree: load the head of every run, then replay every leaf.
+     * Index k acts as a sentinel with key -infinity, so the first pass through
+     * an empty slot always keeps the sentinel as winner and stores the real run.
+     * Time Complexity: O(k log k) worst case, O(k) amortized
+     */
+    private void build() throws IOException {
+        for (int s = 0; s < k; s++) {
+            loadNext(s);
+        }
+        Arrays.fill(tree, k);
+        for (int s = k - 1; s >= 0; s--) {
+            replay(s);
+        }
+    }
+
+    /**
+     * Replay the matches from leaf s up to the root.
+     * Exactly one comparison per level.
+     */
+    private void replay(int s) {
+        int winner = s;
+        for (int t = (s + k) >> 1; t > 0; t >>= 1) {
+            if (beats(tree[t], winner)) {
+                int temp = tree[t];
+                tree[t] = winner;
+                winner = temp;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Does run a win against run b?
+     * Sentinel k beats everyone, exhausted runs lose to everyone,
+     * ties are broken by run index so the merge is stable.
+     */
+    private boolean beats(int a, int b) {
+        if (a == k) return true;
+        if (b == k) return false;
+        if (exhausted[a]) return exhausted[b] && a < b;
+        if (exhausted[b]) return true;
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    private void loadNext(int s) throws IOException {
+        if (sources[s].hasNext()) {
+            keys[s] = sources[s].next();
+        } else {
+            exhausted[s] = true;
+        }
+    }
+
+    // ==================== MERGE OPERATIONS ====================
+
+    /**
+     * Merge all runs into the sink, one batch at a time
+     * @param sink Receives sorted elements in batches
+     * @return Total number of elements merged
+     * Time Complexity: O(N log k)
+     */
+    public long mergeTo(LongSink sink) throws IOException {
+        long total = 0;
+        int n = 0;
+
+        while (!exhausted[tree[0]]) {
+            int w = tree[0];
+            batch[n++] = keys[w];
+            if (n == batch.length) {
+                sink.accept(batch, n);
+                total += n;
+                n = 0;
+            }
+            loadNext(w);
+            replay(w);
+        }
+
+        if (n > 0) {
+            sink.accept(batch, n);
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * Merge all runs into a new array
+     * @param expectedSize Total number of elements across all runs
+     * @return Sorted array
+     */
+    public long[] mergeToArray(int expectedSize) throws IOException {
+        long[] result = new long[expectedSize];
+        int[] pos = {0};
+        mergeTo((values, length) -> {
+            System.arraycopy(values, 0, result, pos[0], length);
+            pos[0] += length;
+        });
+        return pos[0] == expectedSize ? result : Arrays.copyOf(result, pos[0]);
+    }
+
+    /**
+     * Close every run source
+     */
+    @Override
+    public void close() throws IOException {
+        IOException first = null;
+        for (RunSource source : sources) {
+            try {
+                source.close();
+            } catch (IOException e) {
+                if (first == null) first = e;
+            }
+        }
+        if (first != null) throw first;
+    }
+
+    // ======================= RUN SOURCES =======================
+
+    /**
+     * A sorted run of keys, read front to back
+     */
+    public interface RunSource extends Closeable {
+        boolean hasNext() throws IOException;
+        long next() throws IOException;
+
+        @Override
+        default void close() throws IOException { }
+    }
+
+    /**
+     * Receives merged output in batches.
+     * Only the first length entries of values are valid, and the array is
+     * reused after the call returns.
+     */
+    @FunctionalInterface
+    public interface LongSink {
+        void accept(long[] values, int length) throws IOException;
+    }
+
+    /**
+     * In-memory run over a sorted int[]
+     */
+    public static class IntArrayRun implements RunSource {
+        private final int[] data;
+        private int pos;
+        private final int end;
+
+        public IntArrayRun(int[] data) { this(data, 0, data.length); }
+
+        public IntArrayRun(int[] data, int from, int to) {
+            this.data = data;
+            this.pos = from;
+            this.end = to;
+        }
+
+        public boolean hasNext() { return pos < end; }
+        public long next() { return data[pos++]; }
+    }
+
+    /**
+     * In-memory run over a sorted long[]
+     */
+    public static class LongArrayRun implements RunSource {
+        private final long[] data;
+        private int pos;
+        private final int end;
+
+        public LongArrayRun(long[] data) { this(data, 0, data.length); }
+
+        public LongArrayRun(long[] data, int from, int to) {
+            this.data = data;
+            this.pos = from;
+            this.end = to;
+        }
+
+        public boolean hasNext() { return pos < end; }
+        public long next() { return data[pos++]; }
+    }
+
+    /**
+     * File-backed run read through a FileChannel into a direct buffer.
+     * The file holds raw big-endian ints (width 4) or longs (width 8).
+     */
+    public static class FileRun implements RunSource {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final int width;
+        private boolean eof;
+
+        /**
+         * @param path Run file
+         * @param width Element width in bytes: 4 (int) or 8 (long)
+         * @param bufferBytes Read buffer size in bytes
+         */
+        public FileRun(Path path, int width, int bufferBytes) throws IOException {
+            if (width != Integer.BYTES && width != Long.BYTES) {
+                throw new IllegalArgumentException("Width must be 4 or 8 bytes");
+            }
+            if (bufferBytes < width) {
+                throw new IllegalArgumentException("Buffer smaller than one element");
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes - bufferBytes % width);
+            this.width = width;
+            this.buffer.flip(); // start empty
+        }
+
+        public FileRun(Path path, int width) throws IOException {
+            this(path, width, 64 * 1024);
+        }
+
+        public boolean hasNext() throws IOException {
+            if (buffer.remaining() >= width) return true;
+            if (eof) return false;
+
+            buffer.compact();
+            while (buffer.position() < width) {
+                if (channel.read(buffer) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.remaining() >= width;
+        }
+
+        public long next() throws IOException {
+            if (!hasNext()) {
+                throw new java.util.NoSuchElementException("Run is exhausted");
+            }
+            return width == Long.BYTES ? buffer.getLong() : buffer.getInt();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // ======================= FILE SINK =======================
+
+    /**
+     * Sink that appends every batch to a file as raw big-endian longs
+     */
+    public static class FileSink implements LongSink, Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        public FileSink(Path path, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.buffer = ByteBuffer.allocateDirect(Math.max(Long.BYTES, bufferBytes - bufferBytes % Long.BYTES));
+        }
+
+        public FileSink(Path path) throws IOException {
+            this(path, 64 * 1024);
+        }
+
+        public void accept(long[] values, int length) throws IOException {
+            for (int i = 0; i < length; i++) {
+                if (buffer.remaining() < Long.BYTES) flush();
+                buffer.putLong(values[i]);
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            channel.close();
+        }
+    }
+
+    /**
+     * Write a sorted long[] as a run file readable by FileRun(path, 8)
+     */
+    public static void writeRun(Path path, long[] run) throws IOException {
+        try (FileSink sink = new FileSink(path)) {
+            sink.accept(run, run.length);
+        }
+    }
+
+    // ==================== DEMONSTRATION AND TESTING ====================
+
+    /**
+     * Main method to demonstrate k-way merging
+     */
+    public static void main(String[] args) throws IOException {
+        System.out.println("==================== LOSER TREE K-WAY MERGE ====================");
+
+        // Test 1: in-memory int[] runs
+        int[][] intRuns = {
+            {1, 4, 9, 12},
+            {2, 3, 10},
+            {},
+            {0, 5, 6, 7, 8, 11}
+        };
+        RunSource[] sources = new RunSource[intRuns.length];
+        for (int i = 0; i < intRuns.length; i++) {
+            sources[i] = new IntArrayRun(intRuns[i]);
+        }
+        try (LoserTreeMerger merger = new LoserTreeMerger(sources, 4)) {
+            System.out.println("Merged int runs: " + Arrays.toString(merger.mergeToArray(13)));
+        }
+
+        // Test 2: file-backed long[] runs merged into an output file
+        Path dir = Files.createTempDirectory("runs");
+        int runCount = 100;
+        int runLength = 1000;
+        Path[] files = new Path[runCount];
+        java.util.Random random = new java.util.Random(42);
+        for (int r = 0; r < runCount; r++) {
+            long[] run = new long[runLength];
+            for (int i = 0; i < runLength; i++) run[i] = random.nextLong();
+            Arrays.sort(run);
+            files[r] = dir.resolve("run-" + r + ".bin");
+            writeRun(files[r], run);
+        }
+
+        RunSource[] fileSources = new RunSource[runCount];
+        for (int r = 0; r < runCount; r++) {
+            fileSources[r] = new FileRun(files[r], Long.BYTES);
+        }
+        Path output = dir.resolve("merged.bin");
+        long merged;
+        try (LoserTreeMerger merger = new LoserTreeMerger(fileSources);
+             FileSink sink = new FileSink(output)) {
+            merged = merger.mergeTo(sink);
+        }
+
+        // Verify output is sorted
+        boolean sorted = true;
+        long count = 0;
+        try (FileRun check = new FileRun(output, Long.BYTES)) {
+            long prev = Long.MIN_VALUE;
+            while (check.hasNext()) {
+                long value = check.next();
+                if (value < prev) sorted = false;
+                prev = value;
+                count++;
+            }
+        }
+        System.out.println("Merged " + merged + " longs from " + runCount + " files, read back "
+                + count + ", sorted: " + sorted);
+
+        for (Path file : files) Files.deleteIfExists(file);
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(dir);
+    }
+}
@@ -0,0 +1,654 @@
+package LinkedList;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-Arrays Linked Lists
+ *
+ * Alternatives to LinkedList.SinglyLinkedList and LinkedList.DoublyLinkedList where
+ * a node is not an object but a slot index into parallel arrays:
+ *   data[slot]  the value
+ *   next[slot]  slot of the next node, NIL at the end
+ *   prev[slot]  slot of the previous node (doubly linked only)
+ *
+ * Memory per node: 8 bytes (singly) or 12 bytes (doubly) instead of a 16-24 byte
+ * object plus header per node, and no garbage: deleted slots go on a free list
+ * (threaded through next[]) and are reused by later inserts. The arrays grow by
+ * doubling, so tens of millions of nodes are three arrays the GC never has to trace.
+ *
+ * Differences from the object-based lists:
+ * - SinglyLinkedList has the list operations and interview helpers, but not
+ *   sort(), spliterator() or stream()
+ * - DoublyLinkedList handles are int slots, not DoublyListNode objects, and the
+ *   list has no pool-size setting (every freed slot is reused)
+ * - A freed slot is reused by the next insert, so a stale handle is rejected only
+ *   until then; afterwards it silently refers to the new node
+ *
+ * Time Complexities: as for LinkedList (insert at head/tail O(1) amortized,
+ * positional operations O(n)); DoublyLinkedList handle operations O(1)
+ *
+ * @author Interview Preparation
+ */
+public class ArrayLinkedList {
+
+    /** "No node" slot index (end of list, empty list) */
+    public static final int NIL = -1;
+
+    /**
+     * Parallel-array node storage with a free list of slots
+     */
+    private abstract static class SlotStorage {
+        int[] data;
+        int[] next;
+        int freeHead = NIL; // first free slot, chained through next[]
+        int highWater;      // slots below this have been handed out at least once
+
+        SlotStorage(int initialCapacity) {
+            int capacity = Math.max(2, initialCapacity);
+            data = new int[capacity];
+            next = new int[capacity];
+        }
+
+        int allocate(int value) {
+            int slot;
+            if (freeHead != NIL) {
+                slot = freeHead;
+                freeHead = next[slot];
+            } else {
+                if (highWater == data.length) grow(data.length * 2);
+                slot = highWater++;
+            }
+            data[slot] = value;
+            next[slot] = NIL;
+            return slot;
+        }
+
+        void free(int slot) {
+            next[slot] = freeHead;
+            freeHead = slot;
+        }
+
+        void grow(int capacity) {
+            data = Arrays.copyOf(data, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+
+        void resetSlots() {
+            freeHead = NIL;
+            highWater = 0;
+        }
+
+        /**
+         * Current array capacity in slots
+         */
+        public int capacity() { return data.length; }
+    }
+
+    // ======================= SINGLY LINKED LIST =======================
+
+    /**
+     * Singly LinkedList on parallel int arrays
+     */
+    public static class SinglyLinkedList extends SlotStorage {
+        private int head = NIL;
+        private int tail = NIL;
+        private int size;
+
+        public SinglyLinkedList(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        public SinglyLinkedList() {
+            this(16);
+        }
+
+        // ==================== BASIC OPERATIONS ====================
+
+        /**
+         * Insert at the beginning of the list
+         * Time Complexity: O(1) amortized
+         */
+        public void insertAtHead(int value) {
+            int slot = allocate(value);
+            if (head == NIL) {
+                head = tail = slot;
+            } else {
+                next[slot] = head;
+                head = slot;
+            }
+            size++;
+        }
+
+        /**
+         * Insert at the end of the list
+         * Time Complexity: O(1) amortized
+         */
+        public void insertAtTail(int value) {
+            int slot = allocate(value);
+            if (head == NIL) {
+                head = tail = slot;
+            } else {
+                next[tail] = slot;
+                tail = slot;
+            }
+            size++;
+        }
+
+        /**
+         * Insert at specific position (0-indexed)
+         * @throws IndexOutOfBoundsException if position is not in [0, size]
+         * Time Complexity: O(n)
+         */
+        public void insertAtPosition(int position, int value) {
+            if (position < 0 || position > size) {
+                throw new IndexOutOfBoundsException("Position out of bounds");
+            }
+            if (position == 0) {
+                insertAtHead(value);
+                return;
+            }
+            if (position == size) {
+                insertAtTail(value);
+                return;
+            }
+            int slot = allocate(value);
+            int current = slotAt(position - 1);
+            next[slot] = next[current];
+            next[current] = slot;
+            size++;
+        }
+
+        /**
+         * Delete first occurrence of value
+         * @return true if deleted, false if not found
+         * Time Complexity: O(n)
+         */
+        public boolean delete(int value) {
+            int previous = NIL;
+            for (int current = head; current != NIL; previous = current, current = next[current]) {
+                if (data[current] == value) {
+                    removeAfter(previous, current);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Delete node at specific position
+         * @return deleted value
+         * @throws IndexOutOfBoundsException if position is not in [0, size)
+         * Time Complexity: O(n)
+         */
+        public int deleteAtPosition(int position) {
+            checkPosition(position);
+            int previous = position == 0 ? NIL : slotAt(position - 1);
+            int current = previous == NIL ? head : next[previous];
+            int value = data[current];
+            removeAfter(previous, current);
+            return value;
+        }
+
+        /**
+         * Search for a value
+         * @return index if found, -1 if not found
+         * Time Complexity: O(n)
+         */
+        public int search(int value) {
+            int index = 0;
+            for (int current = head; current != NIL; current = next[current], index++) {
+                if (data[current] == value) return index;
+            }
+            return -1;
+        }
+
+        /**
+         * Get value at specific position
+         * @throws IndexOutOfBoundsException if position is not in [0, size)
+         * Time Complexity: O(n)
+         */
+        public int get(int position) {
+            checkPosition(position);
+            return data[slotAt(position)];
+        }
+
+        // ==================== UTILITY METHODS ====================
+
+        public boolean isEmpty() { return head == NIL; }
+        public int size() { return size; }
+
+        /**
+         * Clear the list; the arrays are kept for reuse
+         */
+        public void clear() {
+            head = tail = NIL;
+            size = 0;
+            resetSlots();
+        }
+
+        public void display() {
+            if (head == NIL) {
+                System.out.println("List is empty");
+                return;
+            }
+            System.out.print("List: ");
+            for (int current = head; current != NIL; current = next[current]) {
+                System.out.print(data[current]);
+                if (next[current] != NIL) System.out.print(" -> ");
+            }
+            System.out.println(" -> null");
+        }
+
+        /**
+         * Reverse the list by rewriting next[]
+         * Time Complexity: O(n), Space Complexity: O(1)
+         */
+        public void reverse() {
+            tail = head;
+            int previous = NIL;
+            int current = head;
+            while (current != NIL) {
+                int following = next[current];
+                next[current] = previous;
+                previous = current;
+                current = following;
+            }
+            head = previous;
+        }
+
+        // ==================== INTERVIEW PROBLEMS ====================
+
+        /**
+         * Middle element (slow/fast pointers)
+         * Time Complexity: O(n), Space Complexity: O(1)
+         */
+        public int findMiddle() {
+            if (head == NIL) throw new RuntimeException("List is empty");
+            int slow = head;
+            int fast = head;
+            while (fast != NIL && next[fast] != NIL) {
+                slow = next[slow];
+                fast = next[next[fast]];
+            }
+            return data[slow];
+        }
+
+        /**
+         * Detect a cycle in next[] (Floyd)
+         * Time Complexity: O(n), Space Complexity: O(1)
+         */
+        public boolean hasCycle() {
+            int slow = head;
+            int fast = head;
+            while (fast != NIL && next[fast] != NIL) {
+                slow = next[slow];
+                fast = next[next[fast]];
+                if (slow == fast) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Nth node from the end (1-indexed)
+         * Time Complexity: O(n), Space Complexity: O(1)
+         */
+        public int findNthFromEnd(int n) {
+            if (n <= 0) throw new IllegalArgumentException("n must be positive");
+            int first = head;
+            int second = head;
+            for (int i = 0; i < n; i++) {
+                if (first == NIL) throw new IllegalArgumentException("n is larger than list size");
+                first = next[first];
+            }
+            while (first != NIL) {
+                first = next[first];
+                second = next[second];
+            }
+            return data[second];
+        }
+
+        /**
+         * Remove duplicates from sorted list, freeing their slots
+         * Time Complexity: O(n), Space Complexity: O(1)
+         */
+        public void removeDuplicatesFromSorted() {
+            if (head == NIL) return;
+            int current = head;
+            while (next[current] != NIL) {
+                int following = next[current];
+                if (data[current] == data[following]) {
+                    removeAfter(current, following);
+                } else {
+                    current = following;
+                }
+            }
+        }
+
+        // ==================== HELPER METHODS ====================
+
+        private int slotAt(int position) {
+            int current = head;
+            for (int i = 0; i < position; i++) current = next[current];
+            return current;
+        }
+
+        /**
+         * Unlink current (whose predecessor is previous, NIL for head) and free its slot
+         */
+        private void removeAfter(int previous, int current) {
+            int following = next[current];
+            if (previous == NIL) {
+                head = following;
+            } else {
+                next[previous] = following;
+            }
+            if (current == tail) tail = previous;
+            free(current);
+            size--;
+        }
+
+        private void checkPosition(int position) {
+            if (position < 0 || position >= size) {
+                throw new IndexOutOfBoundsException("Position out of bounds");
+            }
+        }
+    }
+
+    // ======================= DOUBLY LINKED LIST =======================
+
+    /**
+     * Doubly LinkedList on parallel int arrays.
+     * Inserts return the node's slot as a handle for O(1) unlink / move,
+     * like LinkedList.DoublyLinkedList; a handle must not be used after unlink.
+     * Slots are reused, so after h = insertAtTail(1); unlink(h); insertAtTail(9)
+     * the stale h names the node holding 9 and unlink(h) removes it. Drop a
+     * handle together with its unlink.
+     */
+    public static class DoublyLinkedList extends SlotStorage {
+        private static final int FREE = -2; // prev[] marker of a slot on the free list
+
+        private int[] prev;
+        private int head = NIL;
+        private int tail = NIL;
+        private int size;
+
+        public DoublyLinkedList(int initialCapacity) {
+            super(initialCapacity);
+            prev = new int[data.length];
+        }
+
+        public DoublyLinkedList() {
+            this(16);
+        }
+
+        @Override
+        void grow(int capacity) {
+            super.grow(capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+
+        // ==================== BASIC OPERATIONS ====================
+
+        /**
+         * Insert at the beginning
+         * @return Handle (slot) of the new node
+         * Time Complexity: O(1) amortized
+         */
+        public int insertAtHead(int value) {
+            int slot = allocate(value);
+            linkAtHead(slot);
+            size++;
+            return slot;
+        }
+
+        /**
+         * Insert at the end
+         * @return Handle (slot) of the new node
+         * Time Complexity: O(1) amortized
+         */
+        public int insertAtTail(int value) {
+            int slot = allocate(value);
+            linkAtTail(slot);
+            size++;
+            return slot;
+        }
+
+        /**
+         * Delete first occurrence of value
+         * @return true if deleted, false if not found
+         * Time Complexity: O(n)
+         */
+        public boolean delete(int value) {
+            for (int current = head; current != NIL; current = next[current]) {
+                if (data[current] == value) {
+                    unlink(current);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // ==================== HANDLE OPERATIONS ====================
+
+        /**
+         * Remove the node and free its slot
+         * @return The node's value
+         * @throws IllegalArgumentException if handle is not a live node
+         *         (a freed slot that has been reused is live again)
+         * Time Complexity: O(1)
+         */
+        public int unlink(int handle) {
+            checkHandle(handle);
+            int value = data[handle];
+            detach(handle);
+            prev[handle] = FREE;
+            free(handle);
+            size--;
+            return value;
+        }
+
+        /**
+         * Move the node to the head
+         * @throws IllegalArgumentException if handle is not a live node
+         *         (a freed slot that has been reused is live again)
+         * Time Complexity: O(1)
+         */
+        public void moveToHead(int handle) {
+            checkHandle(handle);
+            if (handle == head) return;
+            detach(handle);
+            linkAtHead(handle);
+        }
+
+        /**
+         * Move the node to the tail
+         * @throws IllegalArgumentException if handle is not a live node
+         *         (a freed slot that has been reused is live again)
+         * Time Complexity: O(1)
+         */
+        public void moveToTail(int handle) {
+            checkHandle(handle);
+            if (handle == tail) return;
+            detach(handle);
+            linkAtTail(handle);
+        }
+
+        public int getHead() { return head; }
+        public int getTail() { return tail; }
+
+        /**
+         * Value of a live node
+         * @throws IllegalArgumentException if handle is not a live node
+         *         (a freed slot that has been reused is live again)
+         */
+        public int getData(int handle) {
+            checkHandle(handle);
+            return data[handle];
+        }
+
+        // ==================== UTILITY METHODS ====================
+
+        public int size() { return size; }
+        public boolean isEmpty() { return head == NIL; }
+
+        public void clear() {
+            head = tail = NIL;
+            size = 0;
+            resetSlots();
+        }
+
+        public void displayForward() {
+            if (head == NIL) {
+                System.out.println("List is empty");
+                return;
+            }
+            System.out.print("Forward: null <- ");
+            for (int current = head; current != NIL; current = next[current]) {
+                System.out.print(data[current]);
+                if (next[current] != NIL) System.out.print(" <-> ");
+            }
+            System.out.println(" -> null");
+        }
+
+        public void displayBackward() {
+            if (tail == NIL) {
+                System.out.println("List is empty");
+                return;
+            }
+            System.out.print("Backward: null <- ");
+            for (int current = tail; current != NIL; current = prev[current]) {
+                System.out.print(data[current]);
+                if (prev[current] != NIL) System.out.print(" <-> ");
+            }
+            System.out.println(" -> null");
+        }
+
+        // ==================== HELPER METHODS ====================
+
+        private void linkAtHead(int slot) {
+            prev[slot] = NIL;
+            next[slot] = head;
+            if (head == NIL) {
+                tail = slot;
+            } else {
+                prev[head] = slot;
+            }
+            head = slot;
+        }
+
+        private void linkAtTail(int slot) {
+            next[slot] = NIL;
+            prev[slot] = tail;
+            if (tail == NIL) {
+                head = slot;
+            } else {
+                next[tail] = slot;
+            }
+            tail = slot;
+        }
+
+        private void detach(int slot) {
+            if (prev[slot] != NIL) {
+                next[prev[slot]] = next[slot];
+            } else {
+                head = next[slot];
+            }
+            if (next[slot] != NIL) {
+                prev[next[slot]] = prev[slot];
+            } else {
+                tail = prev[slot];
+            }
+        }
+
+        private void checkHandle(int handle) {
+            if (handle < 0 || handle >= highWater || prev[handle] == FREE) {
+                throw new IllegalArgumentException("Not a live node: " + handle);
+            }
+        }
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) {
+        System.out.println("=== Array LinkedList Demo ===\n");
+
+        SinglyLinkedList sll = new SinglyLinkedList(4);
+        sll.insertAtHead(10);
+        sll.insertAtHead(5);
+        sll.insertAtTail(20);
+        sll.insertAtTail(25);
+        sll.insertAtPosition(2, 15);
+        sll.display();
+        System.out.println("Search 15: " + sll.search(15) + ", get(3): " + sll.get(3) + ", middle: " + sll.findMiddle()
+                + ", 2nd from end: " + sll.findNthFromEnd(2));
+        System.out.println("Delete 15: " + sll.delete(15) + ", deleteAtPosition(0): " + sll.deleteAtPosition(0));
+        sll.insertAtTail(30); // reuses a freed slot
+        sll.reverse();
+        sll.display();
+        System.out.println("Size: " + sll.size() + ", capacity: " + sll.capacity());
+
+        DoublyLinkedList dll = new DoublyLinkedList();
+        int a = dll.insertAtHead(10);
+        dll.insertAtHead(5);
+        int c = dll.insertAtTail(20);
+        dll.insertAtTail(25);
+        dll.displayForward();
+        dll.moveToHead(c);
+        dll.moveToTail(a);
+        dll.displayForward();
+        dll.displayBackward();
+        System.out.println("Unlink handle " + c + ": " + dll.unlink(c));
+        try {
+            dll.unlink(c);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught stale handle: " + e.getMessage());
+        }
+
+        // Cross-check against the object-based list
+        java.util.Random random = new java.util.Random(12);
+        SinglyLinkedList arrays = new SinglyLinkedList();
+        LinkedList.SinglyLinkedList objects = new LinkedList.SinglyLinkedList();
+        boolean same = true;
+        for (int op = 0; op < 20_000; op++) {
+            int value = random.nextInt(200);
+            int choice = random.nextInt(4);
+            if (choice < 2 || objects.size() == 0) {
+                int position = random.nextInt(objects.size() + 1);
+                arrays.insertAtPosition(position, value);
+                objects.insertAtPosition(position, value);
+            } else if (choice == 2) {
+                same &= arrays.delete(value) == objects.delete(value);
+            } else {
+                int position = random.nextInt(objects.size());
+                same &= arrays.deleteAtPosition(position) == objects.deleteAtPosition(position);
+            }
+        }
+        for (int i = 0; i < objects.size(); i++) same &= arrays.get(i) == objects.get(i);
+        System.out.println("\nMatches LinkedList.SinglyLinkedList after 20000 random operations: " + same);
+
+        // Memory: heap used by n nodes, object nodes vs parallel arrays
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        long before = usedHeap();
+        LinkedList.DoublyLinkedList objectList = new LinkedList.DoublyLinkedList();
+        for (int i = 0; i < n; i++) objectList.insertAtTail(i);
+        long objectBytes = usedHeap() - before;
+        objectList = null;
+
+        before = usedHeap();
+        DoublyLinkedList arrayList = new DoublyLinkedList(n);
+        for (int i = 0; i < n; i++) arrayList.insertAtTail(i);
+        long arrayBytes = usedHeap() - before;
+
+        System.out.printf("%nDoubly linked, %d nodes: objects %.1f bytes/node, arrays %.1f bytes/node (%.1fx less)%n",
+                n, (double) objectBytes / n, (double) arrayBytes / n, (double) objectBytes / arrayBytes);
+        System.out.println("Array list size: " + arrayList.size());
+
+        System.out.println("\n=== Array LinkedList Demo Complete ===");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
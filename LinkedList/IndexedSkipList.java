@@ -0,0 +1,379 @@
+package LinkedList;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Indexed Skip List: sorted linked list with O(log n) access by value and by position
+ *
+ * The bottom level is an ordinary sorted singly linked list (plain iteration still
+ * walks node to node). Above it, each node is promoted to level k with probability
+ * 2^-k, giving "express lanes" that skip geometrically more nodes.
+ *
+ * Every link also stores its width: how many bottom-level steps it jumps. Summing
+ * widths while descending turns a value search into a position (rank), and a target
+ * position into a path (get(index)), both in O(log n).
+ *
+ * Duplicates are allowed; insertSorted keeps equal values in insertion order.
+ *
+ * Time Complexities (expected):
+ * - insertSorted / delete / deleteAtPosition: O(log n)
+ * - get(index) / search(value) / rank(value): O(log n)
+ * - iteration: O(n)
+ * Space Complexity: O(n) expected (2 links per node on average)
+ *
+ * @author Interview Preparation
+ */
+public class IndexedSkipList implements Iterable<Integer> {
+
+    private static final int MAX_LEVEL = 32;
+
+    /**
+     * Node with one forward link and one width per level
+     */
+    private static final class Node {
+        final int value;
+        final Node[] next;
+        final int[] width; // bottom-level steps from this node to next[i] (or to the end)
+
+        Node(int value, int levels) {
+            this.value = value;
+            this.next = new Node[levels];
+            this.width = new int[levels];
+        }
+    }
+
+    private final Node head = new Node(0, MAX_LEVEL); // sentinel at position 0
+    private final Node[] update = new Node[MAX_LEVEL]; // scratch, reused by every update
+    private final int[] updatePos = new int[MAX_LEVEL];
+    private int level = 1;   // levels in use
+    private int size;
+    private long seed;
+
+    public IndexedSkipList(long seed) {
+        this.seed = seed == 0 ? 0x9E3779B97F4A7C15L : seed;
+        java.util.Arrays.fill(head.width, 1); // empty list: every head link spans to the end
+    }
+
+    public IndexedSkipList() {
+        this(System.nanoTime());
+    }
+
+    // ==================== INSERTION ====================
+
+    /**
+     * Insert value keeping the list sorted (after existing equal values)
+     * @return Index at which the value was inserted
+     * Time Complexity: O(log n) expected
+     */
+    public int insertSorted(int value) {
+        Node x = head;
+        int pos = 0;
+        for (int i = MAX_LEVEL - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].value <= value) {
+                pos += x.width[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+            updatePos[i] = pos;
+        }
+
+        int nodeLevel = randomLevel();
+        level = Math.max(level, nodeLevel);
+        Node node = new Node(value, nodeLevel);
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            Node before = update[i];
+            if (i < nodeLevel) {
+                int stepsToNode = pos - updatePos[i] + 1;
+                node.next[i] = before.next[i];
+                node.width[i] = before.width[i] - stepsToNode + 1;
+                before.next[i] = node;
+                before.width[i] = stepsToNode;
+            } else {
+                before.width[i]++; // link now jumps over one more node
+            }
+            update[i] = null;
+        }
+        size++;
+        return pos; // pos counted the head, so the new node's index is pos
+    }
+
+    // ==================== DELETION ====================
+
+    /**
+     * Delete first occurrence of value
+     * @return true if deleted, false if not found
+     * Time Complexity: O(log n) expected
+     */
+    public boolean delete(int value) {
+        Node x = head;
+        for (int i = MAX_LEVEL - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].value < value) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node target = x.next[0];
+        if (target == null || target.value != value) {
+            java.util.Arrays.fill(update, null);
+            return false;
+        }
+        unlink(target);
+        return true;
+    }
+
+    /**
+     * Delete element at position (0-indexed)
+     * @return deleted value
+     * @throws IndexOutOfBoundsException if position is not in [0, size)
+     * Time Complexity: O(log n) expected
+     */
+    public int deleteAtPosition(int position) {
+        checkPosition(position);
+        Node x = head;
+        int pos = 0;
+        for (int i = MAX_LEVEL - 1; i >= 0; i--) {
+            while (x.next[i] != null && pos + x.width[i] <= position) {
+                pos += x.width[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node target = x.next[0];
+        unlink(target);
+        return target.value;
+    }
+
+    private void unlink(Node target) {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            Node before = update[i];
+            if (before.next[i] == target) {
+                before.width[i] += target.width[i] - 1;
+                before.next[i] = target.next[i];
+            } else {
+                before.width[i]--;
+            }
+            update[i] = null;
+        }
+        while (level > 1 && head.next[level - 1] == null) level--;
+        size--;
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Value at position (0-indexed)
+     * @throws IndexOutOfBoundsException if position is not in [0, size)
+     * Time Complexity: O(log n) expected
+     */
+    public int get(int position) {
+        checkPosition(position);
+        int target = position + 1; // head sits at 0, element i at i + 1
+        Node x = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && pos + x.width[i] <= target) {
+                pos += x.width[i];
+                x = x.next[i];
+            }
+            if (pos == target) break;
+        }
+        return x.value;
+    }
+
+    /**
+     * Number of elements strictly smaller than value
+     * Time Complexity: O(log n) expected
+     */
+    public int rank(int value) {
+        Node x = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].value < value) {
+                pos += x.width[i];
+                x = x.next[i];
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Search for a value
+     * @return index of first occurrence, -1 if not found
+     * Time Complexity: O(log n) expected
+     */
+    public int search(int value) {
+        Node x = head;
+        int pos = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].value < value) {
+                pos += x.width[i];
+                x = x.next[i];
+            }
+        }
+        Node candidate = x.next[0];
+        return candidate != null && candidate.value == value ? pos : -1;
+    }
+
+    public boolean contains(int value) { return search(value) >= 0; }
+
+    // ==================== UTILITY METHODS ====================
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    public void clear() {
+        java.util.Arrays.fill(head.next, null);
+        java.util.Arrays.fill(head.width, 1);
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Visit values in sorted order along the bottom-level links, without boxing
+     * (named apart from Iterable.forEach so lambda arguments are not ambiguous)
+     * Time Complexity: O(n)
+     */
+    public void forEachInt(IntConsumer action) {
+        for (Node x = head.next[0]; x != null; x = x.next[0]) action.accept(x.value);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private Node current = head.next[0];
+
+            public boolean hasNext() { return current != null; }
+
+            public int nextInt() {
+                if (current == null) throw new NoSuchElementException();
+                int value = current.value;
+                current = current.next[0];
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Display the bottom-level list
+     */
+    public void display() {
+        if (size == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        System.out.print("List: ");
+        for (Node x = head.next[0]; x != null; x = x.next[0]) {
+            System.out.print(x.value);
+            if (x.next[0] != null) System.out.print(" -> ");
+        }
+        System.out.println(" -> null");
+    }
+
+    /**
+     * Display every express lane with the widths of its links
+     */
+    public void displayLevels() {
+        for (int i = level - 1; i >= 0; i--) {
+            StringBuilder sb = new StringBuilder("L" + i + ": head");
+            for (Node x = head; x != null; x = x.next[i]) {
+                sb.append(" -").append(x.width[i]).append("-> ");
+                sb.append(x.next[i] == null ? "end" : String.valueOf(x.next[i].value));
+            }
+            System.out.println(sb);
+        }
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Geometric level with p = 1/2 (xorshift random, no allocation)
+     */
+    private int randomLevel() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        int nodeLevel = 1 + Long.numberOfTrailingZeros(seed | (1L << (MAX_LEVEL - 1)));
+        return Math.min(nodeLevel, MAX_LEVEL);
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position out of bounds");
+        }
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) {
+        System.out.println("=== Indexed Skip List Demo ===\n");
+
+        IndexedSkipList list = new IndexedSkipList(42);
+        int[] values = {30, 10, 50, 20, 40, 20, 60};
+        for (int v : values) System.out.println("insertSorted(" + v + ") -> index " + list.insertSorted(v));
+        list.display();
+        list.displayLevels();
+        System.out.println("get(3): " + list.get(3) + ", search(20): " + list.search(20)
+                + ", search(35): " + list.search(35) + ", rank(35): " + list.rank(35));
+        System.out.println("Delete 20: " + list.delete(20) + ", deleteAtPosition(0): " + list.deleteAtPosition(0));
+        list.display();
+        int sum = 0;
+        for (int v : list) sum += v;
+        long[] total = {0};
+        list.forEachInt(v -> total[0] += v);
+        System.out.println("Sum via iterator: " + sum + ", via forEachInt: " + total[0]);
+
+        // Cross-check against a sorted SinglyLinkedList
+        java.util.Random random = new java.util.Random(4);
+        IndexedSkipList skip = new IndexedSkipList(7);
+        LinkedList.SinglyLinkedList reference = new LinkedList.SinglyLinkedList();
+        boolean same = true;
+        for (int op = 0; op < 20_000; op++) {
+            int value = random.nextInt(500);
+            int choice = random.nextInt(5);
+            if (choice < 3) {
+                int index = skip.insertSorted(value);
+                same &= index == skip.rank(value + 1) - 1;
+                reference.insertAtPosition(index, value);
+            } else if (choice == 3) {
+                int index = reference.search(value);
+                same &= skip.delete(value) == (index >= 0);
+                if (index >= 0) reference.deleteAtPosition(index);
+            } else if (reference.size() > 0) {
+                int position = random.nextInt(reference.size());
+                same &= skip.deleteAtPosition(position) == reference.deleteAtPosition(position);
+            }
+            same &= skip.search(value) == reference.search(value);
+        }
+        for (int i = 0; i < reference.size(); i++) same &= skip.get(i) == reference.get(i);
+        System.out.println("\nMatches sorted SinglyLinkedList after 20000 random operations: " + same);
+
+        // Position and value queries on a large sorted event list
+        int n = 1_000_000;
+        IndexedSkipList events = new IndexedSkipList(1);
+        LinkedList.SinglyLinkedList plain = new LinkedList.SinglyLinkedList();
+        for (int i = 0; i < n; i++) {
+            events.insertSorted(random.nextInt());
+        }
+        int[] sorted = new int[n];
+        int k = 0;
+        for (int v : events) sorted[k++] = v;
+        for (int v : sorted) plain.insertAtTail(v);
+
+        int queries = 200;
+        long start = System.nanoTime();
+        long check = 0;
+        for (int q = 0; q < queries; q++) check += plain.get(random.nextInt(n)) + plain.search(sorted[random.nextInt(n)]);
+        double plainUs = (System.nanoTime() - start) / 1e3 / queries;
+
+        int fastQueries = 1_000_000;
+        start = System.nanoTime();
+        for (int q = 0; q < fastQueries; q++) check += events.get(random.nextInt(n)) + events.search(sorted[random.nextInt(n)]);
+        double skipUs = (System.nanoTime() - start) / 1e3 / fastQueries;
+        System.out.printf("%nget + search on %d elements: SinglyLinkedList %.1f us, IndexedSkipList %.3f us (check %d)%n",
+                n, plainUs, skipUs, check & 1);
+
+        System.out.println("\n=== Indexed Skip List Demo Complete ===");
+    }
+}
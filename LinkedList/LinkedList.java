@@ -1,5 +1,11 @@
 package LinkedList;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * Comprehensive LinkedList Implementation
  * 
@@ -17,9 +23,10 @@ package LinkedList;
  * - Insert at head: O(1)
  * - Insert at tail: O(1) 
  * - Insert at position: O(n)
- * - Delete: O(1) with node reference, O(n) with value
+ * - Delete: O(1) with node reference (DoublyLinkedList handles), O(n) with value
  * - Search: O(n)
  * - Traverse: O(n)
+ * - Sort (natural merge sort): O(n log r) for r initial sorted runs, O(1) space
  * 
  * @author Interview Preparation
  */
@@ -393,37 +400,236 @@ public class LinkedList {
                 }
             }
         }
+        
+        // ==================== SORTING AND STREAMS ====================
+        
+        private ListNode mergedTail; // tail of the last merge() result
+        
+        /**
+         * Sort ascending in place (stable) with a bottom-up natural merge sort.
+         * Each pass merges neighbouring ascending runs by relinking nodes, so an
+         * already sorted list takes one pass and nothing is allocated.
+         * Time Complexity: O(n log r) for r initial runs, Space Complexity: O(1)
+         */
+        public void sort() {
+            if (head == null || head.next == null) return;
+            
+            int runs;
+            do {
+                runs = 0;
+                ListNode newHead = null;
+                ListNode newTail = null;
+                ListNode rest = head;
+                
+                while (rest != null) {
+                    // Cut two consecutive runs off the front of rest
+                    ListNode first = rest;
+                    ListNode firstEnd = runEnd(first);
+                    rest = firstEnd.next;
+                    firstEnd.next = null;
+                    
+                    ListNode second = rest;
+                    if (second != null) {
+                        ListNode secondEnd = runEnd(second);
+                        rest = secondEnd.next;
+                        secondEnd.next = null;
+                    }
+                    
+                    ListNode merged = merge(first, second);
+                    if (newTail == null) {
+                        newHead = merged;
+                    } else {
+                        newTail.next = merged;
+                    }
+                    newTail = mergedTail;
+                    runs++;
+                }
+                
+                head = newHead;
+                tail = newTail;
+            } while (runs > 1);
+            mergedTail = null;
+        }
+        
+        /**
+         * Last node of the non-descending run starting at node
+         */
+        private ListNode runEnd(ListNode node) {
+            while (node.next != null && node.next.data >= node.data) {
+                node = node.next;
+            }
+            return node;
+        }
+        
+        /**
+         * Merge two null-terminated sorted chains (b may be null); ties take from a
+         * @return head of the merged chain, its tail is left in mergedTail
+         */
+        private ListNode merge(ListNode a, ListNode b) {
+            if (b == null) {
+                mergedTail = runEnd(a);
+                return a;
+            }
+            ListNode first;
+            if (a.data <= b.data) {
+                first = a;
+                a = a.next;
+            } else {
+                first = b;
+                b = b.next;
+            }
+            ListNode last = first;
+            while (a != null && b != null) {
+                if (a.data <= b.data) {
+                    last.next = a;
+                    a = a.next;
+                } else {
+                    last.next = b;
+                    b = b.next;
+                }
+                last = last.next;
+            }
+            last.next = (a != null) ? a : b;
+            while (last.next != null) last = last.next;
+            mergedTail = last;
+            return first;
+        }
+        
+        /**
+         * Spliterator over the values, head to tail. trySplit hands off a batch of
+         * nodes from the head (copied into an array, growing by BATCH_UNIT per split)
+         * so parallel streams can work on the prefix while this one keeps walking.
+         * The list must not be modified while a stream is running.
+         */
+        public Spliterator.OfInt spliterator() {
+            return new ListSpliterator(head, size);
+        }
+        
+        /**
+         * Stream of the values; stream().parallel() splits through spliterator()
+         */
+        public IntStream stream() {
+            return StreamSupport.intStream(spliterator(), false);
+        }
+    }
+    
+    /**
+     * Spliterator walking ListNodes and splitting off array-backed head batches
+     */
+    private static final class ListSpliterator implements Spliterator.OfInt {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        
+        private ListNode current;
+        private int remaining;
+        private int batch; // size of the last batch handed out
+        
+        ListSpliterator(ListNode head, int size) {
+            this.current = head;
+            this.remaining = size;
+        }
+        
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (current == null || remaining <= 1) return null;
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = current.data;
+                current = current.next;
+            }
+            batch = n;
+            remaining -= n;
+            return Spliterators.spliterator(values, 0, n, characteristics());
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (current == null) return false;
+            int value = current.data;
+            current = current.next;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            ListNode node = current;
+            current = null;
+            remaining = 0;
+            for (; node != null; node = node.next) action.accept(node.data);
+        }
+        
+        @Override
+        public long estimateSize() { return remaining; }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
     
     // ======================= DOUBLY LINKED LIST =======================
     
     /**
      * Node class for Doubly LinkedList
+     * Also serves as the handle returned by insertAtHead / insertAtTail
      */
     public static class DoublyListNode {
         int data;
         DoublyListNode next;
         DoublyListNode prev;
+        DoublyLinkedList owner; // list holding this node, null once unlinked
         
         public DoublyListNode(int data) {
             this.data = data;
             this.next = null;
             this.prev = null;
         }
+        
+        public int getData() { return data; }
     }
     
     /**
      * Doubly LinkedList Implementation
+     * 
+     * Inserts return the node as a handle, so a caller that keeps the handle
+     * (e.g. an LRU cache in a HashMap) can unlink or move the node in O(1)
+     * without searching. Unlinked nodes are recycled through a small pool,
+     * so steady insert/unlink churn allocates nothing.
+     * 
+     * A handle must not be used after it has been unlinked: a later insert may
+     * reuse the same node object, and the stale handle then refers to the new
+     * element (e.g. h = insertAtTail(1); unlink(h); insertAtTail(9); unlink(h)
+     * removes 9). Drop the handle together with the unlink, as an LRU does when
+     * it removes the evicted key from its map. An unlinked handle is rejected
+     * only until its node is reused; with maxPooled = 0 nodes are never reused,
+     * so every stale handle is rejected.
      */
     public static class DoublyLinkedList {
         private DoublyListNode head;
         private DoublyListNode tail;
         private int size;
         
-        public DoublyLinkedList() {
+        private DoublyListNode pool; // recycled nodes, linked through next
+        private int pooled;
+        private final int maxPooled;
+        
+        /**
+         * Constructor
+         * @param maxPooled Maximum number of unlinked nodes kept for reuse
+         *                  (0 disables reuse and makes stale handles always detectable)
+         */
+        public DoublyLinkedList(int maxPooled) {
             this.head = null;
             this.tail = null;
             this.size = 0;
+            this.maxPooled = maxPooled;
+        }
+        
+        public DoublyLinkedList() {
+            this(1024);
         }
         
         // ==================== BASIC OPERATIONS ====================
@@ -431,37 +637,27 @@ public class LinkedList {
         /**
          * Insert at the beginning
          * @param data Value to insert
+         * @return Handle to the new node
          * Time Complexity: O(1)
          */
-        public void insertAtHead(int data) {
-            DoublyListNode newNode = new DoublyListNode(data);
-            
-            if (head == null) {
-                head = tail = newNode;
-            } else {
-                newNode.next = head;
-                head.prev = newNode;
-                head = newNode;
-            }
+        public DoublyListNode insertAtHead(int data) {
+            DoublyListNode newNode = obtainNode(data);
+            linkAtHead(newNode);
             size++;
+            return newNode;
         }
         
         /**
          * Insert at the end
          * @param data Value to insert
+         * @return Handle to the new node
          * Time Complexity: O(1)
          */
-        public void insertAtTail(int data) {
-            DoublyListNode newNode = new DoublyListNode(data);
-            
-            if (tail == null) {
-                head = tail = newNode;
-            } else {
-                tail.next = newNode;
-                newNode.prev = tail;
-                tail = newNode;
-            }
+        public DoublyListNode insertAtTail(int data) {
+            DoublyListNode newNode = obtainNode(data);
+            linkAtTail(newNode);
             size++;
+            return newNode;
         }
         
         /**
@@ -481,21 +677,131 @@ public class LinkedList {
             
             if (current == null) return false;
             
-            // Update connections
-            if (current.prev != null) {
-                current.prev.next = current.next;
+            unlink(current);
+            return true;
+        }
+        
+        // ==================== HANDLE OPERATIONS ====================
+        
+        /**
+         * Remove the node from the list and recycle it
+         * @param node Handle returned by an insert on this list
+         * @return The node's value
+         * @throws IllegalArgumentException if the node is foreign, or unlinked and not yet reused
+         * Time Complexity: O(1)
+         */
+        public int unlink(DoublyListNode node) {
+            checkOwner(node);
+            int data = node.data;
+            detach(node);
+            size--;
+            recycle(node);
+            return data;
+        }
+        
+        /**
+         * Move the node to the head (most recently used end)
+         * @throws IllegalArgumentException if the node is foreign, or unlinked and not yet reused
+         * Time Complexity: O(1)
+         */
+        public void moveToHead(DoublyListNode node) {
+            checkOwner(node);
+            if (node == head) return;
+            detach(node);
+            linkAtHead(node);
+        }
+        
+        /**
+         * Move the node to the tail
+         * @throws IllegalArgumentException if the node is foreign, or unlinked and not yet reused
+         * Time Complexity: O(1)
+         */
+        public void moveToTail(DoublyListNode node) {
+            checkOwner(node);
+            if (node == tail) return;
+            detach(node);
+            linkAtTail(node);
+        }
+        
+        /**
+         * Handle of the first node, null if empty
+         */
+        public DoublyListNode getHead() { return head; }
+        
+        /**
+         * Handle of the last node (least recently used end), null if empty
+         */
+        public DoublyListNode getTail() { return tail; }
+        
+        // ==================== NODE LINKING ====================
+        
+        private void linkAtHead(DoublyListNode node) {
+            node.prev = null;
+            node.next = head;
+            if (head == null) {
+                tail = node;
             } else {
-                head = current.next; // Deleting head
+                head.prev = node;
             }
-            
-            if (current.next != null) {
-                current.next.prev = current.prev;
+            head = node;
+        }
+        
+        private void linkAtTail(DoublyListNode node) {
+            node.next = null;
+            node.prev = tail;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+        
+        /**
+         * Splice the node out, leaving size and ownership unchanged
+         */
+        private void detach(DoublyListNode node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
             } else {
-                tail = current.prev; // Deleting tail
+                head = node.next; // Detaching head
             }
             
-            size--;
-            return true;
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            } else {
+                tail = node.prev; // Detaching tail
+            }
+            node.prev = node.next = null;
+        }
+        
+        private DoublyListNode obtainNode(int data) {
+            DoublyListNode node = pool;
+            if (node == null) {
+                node = new DoublyListNode(data);
+            } else {
+                pool = node.next;
+                pooled--;
+                node.next = null;
+                node.data = data;
+            }
+            node.owner = this;
+            return node;
+        }
+        
+        private void recycle(DoublyListNode node) {
+            node.owner = null;
+            if (pooled < maxPooled) {
+                node.next = pool;
+                pool = node;
+                pooled++;
+            }
+        }
+        
+        private void checkOwner(DoublyListNode node) {
+            if (node == null || node.owner != this) {
+                throw new IllegalArgumentException("Node is not in this list");
+            }
         }
         
         /**
@@ -611,6 +917,34 @@ public class LinkedList {
         System.out.println("After removing duplicates:");
         sll2.display();
         
+        // Test sort and streams
+        System.out.println("\n--- Testing Sort and Streams ---");
+        SinglyLinkedList sll3 = new SinglyLinkedList();
+        int[] unsorted = {7, 3, 9, 1, 1, 8, 2, 6};
+        for (int value : unsorted) sll3.insertAtTail(value);
+        sll3.sort();
+        sll3.display();
+        sll3.insertAtTail(0); // tail is still correct after sorting
+        System.out.println("Sum via stream: " + sll3.stream().sum());
+        
+        SinglyLinkedList big = new SinglyLinkedList();
+        java.util.Random random = new java.util.Random(8);
+        for (int i = 0; i < 2_000_000; i++) big.insertAtTail(random.nextInt(1_000_000));
+        long start = System.nanoTime();
+        big.sort();
+        double sortMs = (System.nanoTime() - start) / 1e6;
+        boolean sorted = true;
+        int previous = Integer.MIN_VALUE;
+        for (int i = 0, n = Math.min(big.size(), 100_000); i < n; i++) {
+            int value = big.deleteAtPosition(0);
+            sorted &= value >= previous;
+            previous = value;
+        }
+        System.out.printf("Sorted 2,000,000 random ints in %.1f ms, ascending: %s%n", sortMs, sorted);
+        long sequential = big.stream().asLongStream().map(v -> v * v % 1_000_003).sum();
+        long parallel = big.stream().parallel().asLongStream().map(v -> v * v % 1_000_003).sum();
+        System.out.println("Sequential and parallel stream reductions agree: " + (sequential == parallel));
+        
         // Test Doubly LinkedList
         System.out.println("\n\n2. Testing Doubly LinkedList:");
         DoublyLinkedList dll = new DoublyLinkedList();
@@ -626,6 +960,49 @@ public class LinkedList {
         System.out.println("Delete 10: " + dll.delete(10));
         dll.displayForward();
         
+        // Test node handles (LRU bookkeeping)
+        System.out.println("\n--- Testing Node Handles ---");
+        DoublyLinkedList recency = new DoublyLinkedList();
+        java.util.Map<Integer, DoublyListNode> handles = new java.util.HashMap<>();
+        int capacity = 3;
+        int[] accesses = {1, 2, 3, 1, 4, 2, 5, 1};
+        for (int key : accesses) {
+            DoublyListNode node = handles.get(key);
+            if (node != null) {
+                recency.moveToHead(node); // hit: O(1), no search
+            } else {
+                if (recency.size() == capacity) {
+                    int evicted = recency.unlink(recency.getTail()); // node goes back to the pool
+                    handles.remove(evicted);
+                    System.out.print("evict " + evicted + ", ");
+                }
+                handles.put(key, recency.insertAtHead(key)); // reuses a pooled node
+            }
+        }
+        System.out.println();
+        recency.displayForward();
+        DoublyListNode oldest = recency.getTail();
+        recency.moveToTail(recency.getHead());
+        System.out.println("After moveToTail(head):");
+        recency.displayForward();
+        recency.unlink(oldest);
+        try {
+            recency.unlink(oldest);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught stale handle before reuse: " + e.getMessage());
+        }
+        
+        // Without pooling a stale handle is rejected even after later inserts
+        DoublyLinkedList strict = new DoublyLinkedList(0);
+        DoublyListNode stale = strict.insertAtTail(1);
+        strict.unlink(stale);
+        strict.insertAtTail(9);
+        try {
+            strict.unlink(stale);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Caught stale handle with maxPooled = 0: " + e.getMessage());
+        }
+        
         System.out.println("\n=== LinkedList Demo Complete ===");
     }
 }
@@ -0,0 +1,350 @@
+package LinkedList;
+
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.function.IntConsumer;
+
+/**
+ * Lock-free Sorted Linked List of ints (Harris-Michael set)
+ *
+ * Thread-safe replacement for a sorted LinkedList.SinglyLinkedList behind one lock:
+ * any number of threads insert, delete and query concurrently without blocking.
+ *
+ * Each next pointer is an AtomicMarkableReference: (successor, marked). A set mark
+ * on node.next means node is logically deleted. Deletion is two steps:
+ * 1. Logical: CAS node.next from (succ, false) to (succ, true). This is the
+ *    linearization point; the mark also stops inserts after the node
+ * 2. Physical: CAS pred.next from (node, false) to (succ, false)
+ * If step 2 fails (pred changed), the node stays marked and the next traversal
+ * that passes it snips it out: removal is helped along by concurrent operations.
+ *
+ * Sentinels head (below every int) and tail (above every int) are never removed,
+ * so traversals need no null checks.
+ *
+ * Time Complexities: insert / delete / contains O(n) (lock-free); contains is wait-free
+ *
+ * @author Interview Preparation
+ */
+public class LockFreeSortedList {
+
+    private static final class Node {
+        final long key; // long so sentinels sit outside the int range
+        final AtomicMarkableReference<Node> next;
+
+        Node(long key, Node next) {
+            this.key = key;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+    }
+
+    /**
+     * Adjacent pair found by find: pred.key < key <= curr.key, both unmarked when seen
+     */
+    private static final class Window {
+        final Node pred;
+        final Node curr;
+
+        Window(Node pred, Node curr) {
+            this.pred = pred;
+            this.curr = curr;
+        }
+    }
+
+    private final Node head;
+
+    public LockFreeSortedList() {
+        Node tail = new Node(Long.MAX_VALUE, null);
+        this.head = new Node(Long.MIN_VALUE, tail);
+    }
+
+    // ==================== SET OPERATIONS ====================
+
+    /**
+     * Insert key if absent
+     * @return true if inserted, false if already present
+     * Time Complexity: O(n), lock-free
+     */
+    public boolean insert(int key) {
+        while (true) {
+            Window window = find(key);
+            if (window.curr.key == key) {
+                return false;
+            }
+            Node node = new Node(key, window.curr);
+            if (window.pred.next.compareAndSet(window.curr, node, false, false)) {
+                return true;
+            }
+            // pred changed or was marked: search again
+        }
+    }
+
+    /**
+     * Delete key if present
+     * @return true if this call deleted it, false if absent
+     * Time Complexity: O(n), lock-free
+     */
+    public boolean delete(int key) {
+        while (true) {
+            Window window = find(key);
+            Node curr = window.curr;
+            if (curr.key != key) {
+                return false;
+            }
+            Node succ = curr.next.getReference();
+            // Logical delete; fails if succ changed or another thread marked it first
+            if (!curr.next.compareAndSet(succ, succ, false, true)) {
+                continue;
+            }
+            // Physical delete; if it fails, a later find() will snip the node out
+            window.pred.next.compareAndSet(curr, succ, false, false);
+            return true;
+        }
+    }
+
+    /**
+     * Check if key is present (never writes, never retries)
+     * Time Complexity: O(n), wait-free
+     */
+    public boolean contains(int key) {
+        boolean[] marked = {false};
+        Node curr = head;
+        while (curr.key < key) {
+            curr = curr.next.getReference();
+        }
+        curr.next.get(marked);
+        return curr.key == key && !marked[0];
+    }
+
+    // ==================== UTILITY METHODS ====================
+
+    /**
+     * Number of unmarked elements (exact only when no thread is modifying)
+     * Time Complexity: O(n)
+     */
+    public int size() {
+        int count = 0;
+        for (Node curr = head.next.getReference(); curr.key != Long.MAX_VALUE; curr = curr.next.getReference()) {
+            if (!curr.next.isMarked()) count++;
+        }
+        return count;
+    }
+
+    public boolean isEmpty() { return size() == 0; }
+
+    /**
+     * Snapshot of the elements in ascending order
+     */
+    public int[] toArray() {
+        int[] result = new int[16];
+        int n = 0;
+        for (Node curr = head.next.getReference(); curr.key != Long.MAX_VALUE; curr = curr.next.getReference()) {
+            if (curr.next.isMarked()) continue;
+            if (n == result.length) result = java.util.Arrays.copyOf(result, n * 2);
+            result[n++] = (int) curr.key;
+        }
+        return java.util.Arrays.copyOf(result, n);
+    }
+
+    public void display() {
+        int[] values = toArray();
+        if (values.length == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        System.out.print("List: ");
+        for (int i = 0; i < values.length; i++) {
+            System.out.print(values[i]);
+            if (i + 1 < values.length) System.out.print(" -> ");
+        }
+        System.out.println(" -> null");
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Find the window for key, physically removing marked nodes on the way
+     */
+    private Window find(int key) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            Node pred = head;
+            Node curr = pred.next.getReference();
+            while (true) {
+                Node succ = curr.next.get(marked);
+                while (marked[0]) {
+                    // curr is logically deleted: help unlink it
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) {
+                        continue retry; // pred changed underneath us
+                    }
+                    curr = succ;
+                    succ = curr.next.get(marked);
+                }
+                if (curr.key >= key) {
+                    return new Window(pred, curr);
+                }
+                pred = curr;
+                curr = succ;
+            }
+        }
+    }
+
+    // ======================= BENCHMARK =======================
+
+    /**
+     * Minimal set view so both implementations run the same loop
+     */
+    private interface IntSetAdapter {
+        boolean insert(int key);
+        boolean delete(int key);
+        boolean contains(int key);
+    }
+
+    private static IntSetAdapter adapter(String name) {
+        switch (name) {
+            case "LockFreeSortedList": {
+                LockFreeSortedList set = new LockFreeSortedList();
+                return new IntSetAdapter() {
+                    public boolean insert(int key) { return set.insert(key); }
+                    public boolean delete(int key) { return set.delete(key); }
+                    public boolean contains(int key) { return set.contains(key); }
+                };
+            }
+            case "synchronized SinglyLinkedList": {
+                // Kept sorted like the shared list it replaces: lookups stop at the first
+                // value >= key, updates then walk to that position once more
+                LinkedList.SinglyLinkedList list = new LinkedList.SinglyLinkedList();
+                return new IntSetAdapter() {
+                    private int seen;     // last value read by seek (guarded by the lock)
+                    private boolean found; // whether seek stopped on key itself
+                    private final IntConsumer reader = value -> seen = value;
+
+                    /**
+                     * Number of values < key; stops at the first value >= key
+                     */
+                    private int seek(int key) {
+                        Spliterator.OfInt it = list.spliterator();
+                        int position = 0;
+                        found = false;
+                        while (it.tryAdvance(reader)) {
+                            if (seen >= key) {
+                                found = seen == key;
+                                break;
+                            }
+                            position++;
+                        }
+                        return position;
+                    }
+
+                    public synchronized boolean insert(int key) {
+                        int position = seek(key);
+                        if (found) return false;
+                        list.insertAtPosition(position, key);
+                        return true;
+                    }
+                    public synchronized boolean delete(int key) {
+                        int position = seek(key);
+                        if (!found) return false;
+                        list.deleteAtPosition(position);
+                        return true;
+                    }
+                    public synchronized boolean contains(int key) {
+                        seek(key);
+                        return found;
+                    }
+                };
+            }
+            default:
+                throw new IllegalArgumentException("Unknown set: " + name);
+        }
+    }
+
+    /**
+     * Each thread runs 20% insert, 20% delete, 60% contains on keys in [0, keyRange)
+     * @return Throughput in million operations per second
+     */
+    private static double benchmark(String name, int threads, int opsPerThread, int keyRange) throws InterruptedException {
+        IntSetAdapter set = adapter(name);
+        for (int k = 0; k < keyRange; k += 2) set.insert(k); // half full
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < opsPerThread; i++) {
+                    int key = random.nextInt(keyRange);
+                    int op = random.nextInt(10);
+                    if (op < 2) set.insert(key);
+                    else if (op < 4) set.delete(key);
+                    else set.contains(key);
+                }
+            });
+        }
+        long start = System.nanoTime();
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        return (long) threads * opsPerThread / ((System.nanoTime() - start) / 1e3);
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    /**
+     * Main method: basic operations plus throughput comparison
+     * @param args Optional: operations per thread (default 50,000)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Lock-Free Sorted List Demo ===\n");
+
+        LockFreeSortedList list = new LockFreeSortedList();
+        int[] keys = {30, 10, 50, 20, 40, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        for (int key : keys) list.insert(key);
+        list.display();
+        System.out.println("Insert 20 again: " + list.insert(20));
+        System.out.println("Contains 40: " + list.contains(40) + ", contains 45: " + list.contains(45));
+        System.out.println("Delete 40: " + list.delete(40) + ", delete 40 again: " + list.delete(40));
+        list.display();
+        System.out.println("Size: " + list.size());
+
+        // Concurrent correctness: each thread owns a key stripe; all inserts then half the deletes
+        LockFreeSortedList shared = new LockFreeSortedList();
+        int threads = 8;
+        int perThread = 2_000;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int stripe = t;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) shared.insert(i * threads + stripe);
+                for (int i = 0; i < perThread; i += 2) shared.delete(i * threads + stripe);
+            });
+        }
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        int[] left = shared.toArray();
+        boolean ok = left.length == threads * perThread / 2;
+        for (int i = 0; i < left.length; i++) {
+            ok &= (left[i] / threads) % 2 == 1 && (i == 0 || left[i - 1] < left[i]);
+        }
+        System.out.println("\nConcurrent inserts/deletes left exactly the odd rows, sorted: " + ok);
+
+        int opsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int keyRange = 512;
+        String[] names = {"LockFreeSortedList", "synchronized SinglyLinkedList"};
+        int[] threadCounts = {1, 2, 4, 8, 16, 32, 64};
+
+        System.out.println("\n--- Throughput (M ops/s, " + opsPerThread + " ops per thread, keys 0.." + (keyRange - 1) + ") ---");
+        System.out.printf("%-8s", "threads");
+        for (String name : names) System.out.printf("%32s", name);
+        System.out.println();
+
+        for (int count : threadCounts) {
+            System.out.printf("%-8d", count);
+            for (String name : names) {
+                benchmark(name, count, opsPerThread / 10, keyRange); // warm-up
+                System.out.printf("%32.2f", benchmark(name, count, opsPerThread, keyRange));
+            }
+            System.out.println();
+        }
+
+        System.out.println("\n=== Lock-Free Sorted List Demo Complete ===");
+    }
+}
@@ -0,0 +1,511 @@
+package LinkedList;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Unrolled Linked List of ints
+ *
+ * Cache-friendly alternative to LinkedList.SinglyLinkedList with its list operations
+ * (inserts, deletes, search, get, reverse, findMiddle, hasCycle, findNthFromEnd,
+ * removeDuplicatesFromSorted); sort() and streams are not provided.
+ * Each node (block) stores up to B ints in an array plus a count, so
+ * - a scan touches one node per B elements instead of one per element,
+ *   and walks the ints inside a block sequentially (prefetch friendly)
+ * - positional operations skip whole blocks: O(n / B) hops instead of O(n)
+ * - memory is one header per block instead of one per int
+ *
+ * Invariants:
+ * - A full block that receives an insert splits into two half-full blocks
+ * - A block other than the tail never holds fewer than B / 2 ints: after a delete
+ *   it borrows from its successor, or merges with it when both fit in one block
+ *
+ * A cursor remembers the last block found by position, so ascending get(i) loops
+ * continue from where the previous call stopped instead of starting at head.
+ *
+ * Time Complexities:
+ * - insertAtTail: O(1)
+ * - insertAtHead / insertAtPosition / deleteAtPosition / get: O(n / B + B)
+ * - search / delete by value: O(n), without per-element pointer chasing
+ * - reverse / removeDuplicatesFromSorted: O(n); findMiddle / findNthFromEnd: O(n / B + B)
+ *
+ * @author Interview Preparation
+ */
+public class UnrolledLinkedList {
+
+    /**
+     * Node holding up to B ints
+     */
+    private static final class Block {
+        final int[] items;
+        int count;
+        Block next;
+
+        Block(int capacity) {
+            this.items = new int[capacity];
+        }
+    }
+
+    private final int blockCapacity;
+    private final int minFill;
+    private Block head;
+    private Block tail;
+    private int size;
+
+    // Cursor: block found by the last positional lookup and the index of its first item
+    private Block cursor;
+    private int cursorStart;
+
+    /**
+     * Constructor
+     * @param blockCapacity Ints per block (B), at least 4
+     */
+    public UnrolledLinkedList(int blockCapacity) {
+        if (blockCapacity < 4) {
+            throw new IllegalArgumentException("Block capacity must be at least 4");
+        }
+        this.blockCapacity = blockCapacity;
+        this.minFill = blockCapacity / 2;
+        this.head = this.tail = new Block(blockCapacity);
+    }
+
+    public UnrolledLinkedList() {
+        this(64);
+    }
+
+    // ==================== BASIC OPERATIONS ====================
+
+    /**
+     * Insert at the beginning of the list
+     * Time Complexity: O(B)
+     */
+    public void insertAtHead(int data) {
+        insertAtPosition(0, data);
+    }
+
+    /**
+     * Insert at the end of the list
+     * Time Complexity: O(1)
+     */
+    public void insertAtTail(int data) {
+        if (tail.count == blockCapacity) {
+            Block block = new Block(blockCapacity);
+            tail.next = block;
+            tail = block;
+        }
+        tail.items[tail.count++] = data;
+        size++;
+    }
+
+    /**
+     * Insert at specific position (0-indexed)
+     * @throws IndexOutOfBoundsException if position is not in [0, size]
+     * Time Complexity: O(n / B + B)
+     */
+    public void insertAtPosition(int position, int data) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Position out of bounds");
+        }
+        if (position == size) {
+            insertAtTail(data);
+            return;
+        }
+
+        Block block = locate(position);
+        int offset = position - cursorStart;
+        if (block.count == blockCapacity) {
+            Block upper = split(block);
+            if (offset > block.count) {
+                offset -= block.count;
+                block = upper;
+            }
+        }
+        System.arraycopy(block.items, offset, block.items, offset + 1, block.count - offset);
+        block.items[offset] = data;
+        block.count++;
+        size++;
+        cursor = null;
+    }
+
+    /**
+     * Delete first occurrence of value
+     * @return true if deleted, false if not found
+     * Time Complexity: O(n)
+     */
+    public boolean delete(int data) {
+        for (Block block = head; block != null; block = block.next) {
+            int[] items = block.items;
+            for (int i = 0; i < block.count; i++) {
+                if (items[i] == data) {
+                    removeAt(block, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delete element at specific position
+     * @return deleted value
+     * @throws IndexOutOfBoundsException if position is not in [0, size)
+     * Time Complexity: O(n / B + B)
+     */
+    public int deleteAtPosition(int position) {
+        checkPosition(position);
+        Block block = locate(position);
+        int offset = position - cursorStart;
+        int value = block.items[offset];
+        removeAt(block, offset);
+        return value;
+    }
+
+    /**
+     * Search for a value
+     * @return index of first occurrence, -1 if not found
+     * Time Complexity: O(n)
+     */
+    public int search(int data) {
+        int start = 0;
+        for (Block block = head; block != null; block = block.next) {
+            int[] items = block.items;
+            for (int i = 0; i < block.count; i++) {
+                if (items[i] == data) return start + i;
+            }
+            start += block.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Get value at specific position
+     * @throws IndexOutOfBoundsException if position is not in [0, size)
+     * Time Complexity: O(n / B), O(1) amortized for ascending positions
+     */
+    public int get(int position) {
+        checkPosition(position);
+        Block block = locate(position);
+        return block.items[position - cursorStart];
+    }
+
+    // ==================== UTILITY METHODS ====================
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    public void clear() {
+        head = tail = new Block(blockCapacity);
+        size = 0;
+        cursor = null;
+    }
+
+    /**
+     * Apply action to every element in order
+     * Time Complexity: O(n)
+     */
+    public void forEach(IntConsumer action) {
+        for (Block block = head; block != null; block = block.next) {
+            int[] items = block.items;
+            for (int i = 0; i < block.count; i++) action.accept(items[i]);
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        for (Block block = head; block != null; block = block.next) {
+            System.arraycopy(block.items, 0, result, n, block.count);
+            n += block.count;
+        }
+        return result;
+    }
+
+    /**
+     * Reverse the list: reverse the block chain and the ints inside each block
+     * Time Complexity: O(n), Space Complexity: O(1)
+     */
+    public void reverse() {
+        Block prev = null;
+        Block block = head;
+        tail = head;
+        while (block != null) {
+            int[] items = block.items;
+            for (int i = 0, j = block.count - 1; i < j; i++, j--) {
+                int t = items[i]; items[i] = items[j]; items[j] = t;
+            }
+            Block next = block.next;
+            block.next = prev;
+            prev = block;
+            block = next;
+        }
+        head = prev;
+        cursor = null;
+        rebalance(head); // the old tail may be under half full
+    }
+
+    // ==================== INTERVIEW PROBLEMS ====================
+
+    /**
+     * Middle element (the second of the two middles for an even size, as in SinglyLinkedList)
+     * Time Complexity: O(n / B + B)
+     */
+    public int findMiddle() {
+        if (size == 0) throw new RuntimeException("List is empty");
+        return get(size / 2);
+    }
+
+    /**
+     * Detect a cycle in the block chain (Floyd's algorithm over blocks)
+     * Time Complexity: O(n / B), Space Complexity: O(1)
+     */
+    public boolean hasCycle() {
+        Block slow = head;
+        Block fast = head;
+        while (fast != null && fast.next != null) {
+            slow = slow.next;
+            fast = fast.next.next;
+            if (slow == fast) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Find nth element from the end
+     * @param n position from end (1-indexed)
+     * Time Complexity: O(n / B + B)
+     */
+    public int findNthFromEnd(int n) {
+        if (n <= 0) throw new IllegalArgumentException("n must be positive");
+        if (n > size) throw new IllegalArgumentException("n is larger than list size");
+        return get(size - n);
+    }
+
+    /**
+     * Remove duplicates from a sorted list, compacting survivors into full blocks
+     * (writes never overtake reads, so the compaction runs in place)
+     * Time Complexity: O(n), Space Complexity: O(1)
+     */
+    public void removeDuplicatesFromSorted() {
+        if (size == 0) return;
+        Block out = head;
+        int outCount = 0;
+        int written = 0;
+        int last = 0;
+        for (Block block = head; block != null; block = block.next) {
+            int[] items = block.items;
+            int count = block.count;
+            for (int i = 0; i < count; i++) {
+                int value = items[i];
+                if (written > 0 && value == last) continue;
+                if (outCount == blockCapacity) {
+                    out.count = outCount;
+                    out = out.next;
+                    outCount = 0;
+                }
+                out.items[outCount++] = value;
+                last = value;
+                written++;
+            }
+        }
+        out.count = outCount;
+        out.next = null;
+        tail = out;
+        size = written;
+        cursor = null;
+    }
+
+    /**
+     * Number of blocks (for inspecting fill)
+     */
+    public int blockCount() {
+        int count = 0;
+        for (Block block = head; block != null; block = block.next) count++;
+        return count;
+    }
+
+    /**
+     * Display the list with block boundaries
+     */
+    public void display() {
+        if (size == 0) {
+            System.out.println("List is empty");
+            return;
+        }
+        System.out.print("List: ");
+        for (Block block = head; block != null; block = block.next) {
+            System.out.print(Arrays.toString(Arrays.copyOf(block.items, block.count)));
+            if (block.next != null) System.out.print(" -> ");
+        }
+        System.out.println(" -> null");
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Block containing position (position < size); sets cursor and cursorStart
+     */
+    private Block locate(int position) {
+        Block block = head;
+        int start = 0;
+        if (cursor != null && position >= cursorStart) {
+            block = cursor;
+            start = cursorStart;
+        }
+        while (position >= start + block.count) {
+            start += block.count;
+            block = block.next;
+        }
+        cursor = block;
+        cursorStart = start;
+        return block;
+    }
+
+    /**
+     * Move the upper half of a full block into a new successor block
+     * @return The new block
+     */
+    private Block split(Block block) {
+        Block upper = new Block(blockCapacity);
+        int keep = block.count / 2;
+        upper.count = block.count - keep;
+        System.arraycopy(block.items, keep, upper.items, 0, upper.count);
+        block.count = keep;
+        upper.next = block.next;
+        block.next = upper;
+        if (tail == block) tail = upper;
+        return upper;
+    }
+
+    /**
+     * Remove items[offset] of block and restore the fill invariant
+     */
+    private void removeAt(Block block, int offset) {
+        System.arraycopy(block.items, offset + 1, block.items, offset, block.count - offset - 1);
+        block.count--;
+        size--;
+        cursor = null;
+        rebalance(block);
+    }
+
+    /**
+     * Restore the fill invariant of block from its successor
+     */
+    private void rebalance(Block block) {
+        Block next = block.next;
+        if (block.count >= minFill || next == null) {
+            return;
+        }
+        if (block.count + next.count <= blockCapacity) {
+            // Merge: absorb the successor
+            System.arraycopy(next.items, 0, block.items, block.count, next.count);
+            block.count += next.count;
+            block.next = next.next;
+            if (tail == next) tail = block;
+        } else {
+            // Borrow from the successor up to half full
+            int borrow = minFill - block.count;
+            System.arraycopy(next.items, 0, block.items, block.count, borrow);
+            System.arraycopy(next.items, borrow, next.items, 0, next.count - borrow);
+            block.count += borrow;
+            next.count -= borrow;
+        }
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position out of bounds");
+        }
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    /**
+     * Main method: operations demo plus benchmark against SinglyLinkedList
+     * @param args Optional: number of elements (default 10,000,000)
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Unrolled LinkedList Demo ===\n");
+
+        UnrolledLinkedList list = new UnrolledLinkedList(4);
+        for (int i = 1; i <= 10; i++) list.insertAtTail(i * 10);
+        list.display();
+        list.insertAtHead(5);
+        list.insertAtPosition(6, 55);
+        list.display();
+        System.out.println("Get(6): " + list.get(6) + ", search(90): " + list.search(90) + ", size: " + list.size());
+        System.out.println("Delete 55: " + list.delete(55) + ", deleteAtPosition(0): " + list.deleteAtPosition(0));
+        for (int i = 0; i < 4; i++) list.deleteAtPosition(1);
+        list.display();
+        System.out.println("Blocks: " + list.blockCount());
+
+        // Cross-check against SinglyLinkedList with random operations
+        java.util.Random random = new java.util.Random(9);
+        UnrolledLinkedList unrolled = new UnrolledLinkedList(8);
+        LinkedList.SinglyLinkedList reference = new LinkedList.SinglyLinkedList();
+        boolean same = true;
+        for (int op = 0; op < 20_000; op++) {
+            int choice = random.nextInt(4);
+            if (choice < 2 || reference.size() == 0) {
+                int position = random.nextInt(reference.size() + 1);
+                int value = random.nextInt(100);
+                unrolled.insertAtPosition(position, value);
+                reference.insertAtPosition(position, value);
+            } else if (choice == 2) {
+                int position = random.nextInt(reference.size());
+                same &= unrolled.deleteAtPosition(position) == reference.deleteAtPosition(position);
+            } else if (op % 500 == 0) {
+                unrolled.reverse();
+                reference.reverse();
+                same &= unrolled.findMiddle() == reference.findMiddle();
+                int n = 1 + random.nextInt(reference.size());
+                same &= unrolled.findNthFromEnd(n) == reference.findNthFromEnd(n);
+            } else {
+                int value = random.nextInt(100);
+                same &= unrolled.delete(value) == reference.delete(value);
+            }
+        }
+        for (int i = 0; i < reference.size(); i++) same &= unrolled.get(i) == reference.get(i);
+        reference.sort();
+        unrolled = new UnrolledLinkedList(8);
+        for (int i = 0; i < reference.size(); i++) unrolled.insertAtTail(reference.get(i));
+        reference.removeDuplicatesFromSorted();
+        unrolled.removeDuplicatesFromSorted();
+        same &= unrolled.size() == reference.size() && !unrolled.hasCycle();
+        for (int i = 0; i < reference.size(); i++) same &= unrolled.get(i) == reference.get(i);
+        System.out.println("\nMatches SinglyLinkedList after 20000 random operations: " + same);
+
+        // Benchmark
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        LinkedList.SinglyLinkedList singly = new LinkedList.SinglyLinkedList();
+        UnrolledLinkedList blocks = new UnrolledLinkedList(128);
+        for (int i = 0; i < n; i++) {
+            singly.insertAtTail(i);
+            blocks.insertAtTail(i);
+        }
+        System.out.println("\n--- Benchmark at " + n + " elements ---");
+
+        long start = System.nanoTime();
+        singly.search(-1); // full traversal
+        double singlyScan = (System.nanoTime() - start) / 1e6;
+        start = System.nanoTime();
+        blocks.search(-1);
+        double blocksScan = (System.nanoTime() - start) / 1e6;
+        System.out.printf("Sequential scan:  SinglyLinkedList %8.1f ms, Unrolled %8.1f ms%n", singlyScan, blocksScan);
+
+        start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < n; i++) sum += blocks.get(i);
+        System.out.printf("Unrolled get(0..n-1) with cursor: %.1f ms (sum %d)%n", (System.nanoTime() - start) / 1e6, sum);
+
+        int inserts = 50;
+        start = System.nanoTime();
+        for (int i = 0; i < inserts; i++) singly.insertAtPosition(random.nextInt(singly.size()), i);
+        double singlyInsert = (System.nanoTime() - start) / 1e6 / inserts;
+        start = System.nanoTime();
+        for (int i = 0; i < inserts * 100; i++) blocks.insertAtPosition(random.nextInt(blocks.size()), i);
+        double blocksInsert = (System.nanoTime() - start) / 1e6 / (inserts * 100);
+        System.out.printf("Random insert:    SinglyLinkedList %8.3f ms/op, Unrolled %8.3f ms/op%n", singlyInsert, blocksInsert);
+
+        System.out.println("\n=== Unrolled LinkedList Demo Complete ===");
+    }
+}
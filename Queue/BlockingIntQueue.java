@@ -0,0 +1,452 @@
+package Queue;
+
+import java.lang.reflect.Method;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Unbounded Blocking Queue for Virtual-Thread Consumers
+ *
+ * Blocking, thread-safe version of Queue.LinkedQueue backed by a ChunkedQueue.
+ *
+ * Design:
+ * - Elements are guarded by a ReentrantLock held only for O(1) / O(batch) work.
+ *   No synchronized block is used anywhere, so a virtual thread waiting here
+ *   never pins its carrier thread
+ * - Waiting consumers are kept in an intrusive FIFO list of Waiter nodes and
+ *   parked with LockSupport.park. A producer removes one waiter under the lock
+ *   and unparks it AFTER releasing the lock, so the woken consumer does not
+ *   immediately block on the lock the producer still holds
+ * - drainTo hands a whole batch to a consumer per wakeup, amortizing the
+ *   park/unpark cost over many elements
+ *
+ * Time Complexities:
+ * - put: O(1)
+ * - take / poll(timeout): O(1) plus waiting
+ * - drainTo: O(batch)
+ *
+ * @author Interview Preparation
+ */
+public class BlockingIntQueue {
+
+    /**
+     * Parked consumer, linked into the waiter list while it waits
+     */
+    private static final class Waiter {
+        final Thread thread;
+        Waiter prev;
+        Waiter next;
+        boolean queued;       // still in the waiter list (guarded by lock)
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ChunkedQueue items;
+    private Waiter firstWaiter;
+    private Waiter lastWaiter;
+
+    // Per-consumer scratch for drainTo(IntConsumer, int); grown on demand, then reused
+    private final ThreadLocal<int[]> drainBuffers = new ThreadLocal<>();
+
+    public BlockingIntQueue() {
+        this.items = new ChunkedQueue();
+    }
+
+    // ==================== PRODUCER OPERATIONS ====================
+
+    /**
+     * Add element to rear and wake one waiting consumer, if any
+     * @param data Element to add
+     * Time Complexity: O(1)
+     */
+    public void put(int data) {
+        Waiter toWake;
+        lock.lock();
+        try {
+            items.enqueue(data);
+            toWake = dequeueWaiter();
+        } finally {
+            lock.unlock();
+        }
+        wake(toWake);
+    }
+
+    /**
+     * Add a batch of elements and wake one consumer. Each consumer that takes
+     * an element and leaves more behind wakes the next one, so the wakeups
+     * cascade to up to one consumer per element.
+     * (Waking the others from here would need a list walked after unlocking;
+     * the Waiter links cannot carry it, because a waiter that wakes early
+     * re-enqueues itself and rewrites them.)
+     * @param src Elements to add
+     * @param from First index in src
+     * @param length Number of elements
+     */
+    public void putAll(int[] src, int from, int length) {
+        Waiter toWake = null;
+        lock.lock();
+        try {
+            for (int i = 0; i < length; i++) {
+                items.enqueue(src[from + i]);
+            }
+            if (length > 0) {
+                toWake = dequeueWaiter();
+            }
+        } finally {
+            lock.unlock();
+        }
+        wake(toWake);
+    }
+
+    // ==================== CONSUMER OPERATIONS ====================
+
+    /**
+     * Remove and return front element, waiting if necessary
+     * @return Front element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int take() throws InterruptedException {
+        lock.lock();
+        try {
+            awaitNotEmpty(Long.MAX_VALUE, false);
+            return dequeueAndPassSignal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove and return front element, waiting up to the given timeout
+     * @return Front element
+     * @throws NoSuchElementException if the timeout elapsed with the queue still empty
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int poll(long timeout, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            if (!awaitNotEmpty(unit.toNanos(timeout), true)) {
+                throw new NoSuchElementException("Queue is empty");
+            }
+            return dequeueAndPassSignal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until at least one element is available, then move up to
+     * maxBatch elements into dst. Allocation free.
+     * @return Number of elements written to dst (at least 1)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int drainTo(int[] dst, int maxBatch) throws InterruptedException {
+        int limit = Math.min(maxBatch, dst.length);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        lock.lock();
+        try {
+            awaitNotEmpty(Long.MAX_VALUE, false);
+            int n = Math.min(limit, items.size());
+            for (int i = 0; i < n; i++) {
+                dst[i] = items.dequeue();
+            }
+            passSignalIfNotEmpty();
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until at least one element is available, then hand up to maxBatch
+     * elements to sink. The sink runs outside the lock.
+     * The batch is staged in a buffer owned by the calling thread, so repeated
+     * calls allocate nothing once it has grown to maxBatch.
+     * @return Number of elements processed (at least 1)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public int drainTo(IntConsumer sink, int maxBatch) throws InterruptedException {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        int[] batch = drainBuffers.get();
+        if (batch == null || batch.length < maxBatch) {
+            batch = new int[maxBatch];
+        }
+        drainBuffers.set(null); // a drainTo from inside the sink must not reuse this buffer
+        try {
+            int n = drainTo(batch, maxBatch);
+            for (int i = 0; i < n; i++) {
+                sink.accept(batch[i]);
+            }
+            return n;
+        } finally {
+            drainBuffers.set(batch);
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return items.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() { return size() == 0; }
+
+    // ==================== WAITING AND SIGNALLING ====================
+
+    /**
+     * Park until the queue is non-empty. Called and returns with the lock held.
+     * @return false if the timeout elapsed first (only when timed)
+     */
+    private boolean awaitNotEmpty(long nanos, boolean timed) throws InterruptedException {
+        if (!items.isEmpty()) {
+            return true;
+        }
+        long deadline = timed ? System.nanoTime() + nanos : 0L;
+        Waiter self = new Waiter(Thread.currentThread());
+
+        while (items.isEmpty()) {
+            if (timed && nanos <= 0L) {
+                cancel(self);
+                return false;
+            }
+            if (!self.queued) {
+                enqueueWaiter(self);
+            }
+
+            lock.unlock();
+            try {
+                if (timed) LockSupport.parkNanos(this, nanos);
+                else LockSupport.park(this);
+            } finally {
+                lock.lock();
+            }
+
+            if (Thread.interrupted()) {
+                cancel(self);
+                throw new InterruptedException();
+            }
+            if (timed) nanos = deadline - System.nanoTime();
+        }
+        if (self.queued) {
+            unlinkWaiter(self);
+        }
+        return true;
+    }
+
+    /**
+     * Leave without consuming: drop out of the list, or, if a producer already
+     * dequeued us (possibly still about to unpark us), pass the signal on so
+     * the element is not stranded. queued is guarded by the lock, so this
+     * decision cannot race with the producer.
+     */
+    private void cancel(Waiter self) {
+        if (self.queued) {
+            unlinkWaiter(self);
+        } else {
+            passSignalIfNotEmpty();
+        }
+    }
+
+    private int dequeueAndPassSignal() {
+        int data = items.dequeue();
+        passSignalIfNotEmpty();
+        return data;
+    }
+
+    /**
+     * More elements remain than we consumed: wake the next waiter.
+     * Unparking under the lock is rare here (only on contention), so it is
+     * not deferred like in put.
+     */
+    private void passSignalIfNotEmpty() {
+        if (!items.isEmpty()) {
+            wake(dequeueWaiter());
+        }
+    }
+
+    private void wake(Waiter w) {
+        if (w != null) {
+            LockSupport.unpark(w.thread);
+        }
+    }
+
+    // ==================== WAITER LIST (guarded by lock) ====================
+
+    private void enqueueWaiter(Waiter w) {
+        w.prev = lastWaiter;
+        w.next = null;
+        if (lastWaiter == null) firstWaiter = w; else lastWaiter.next = w;
+        lastWaiter = w;
+        w.queued = true;
+    }
+
+    private Waiter dequeueWaiter() {
+        Waiter w = firstWaiter;
+        if (w != null) unlinkWaiter(w);
+        return w;
+    }
+
+    private void unlinkWaiter(Waiter w) {
+        if (w.prev == null) firstWaiter = w.next; else w.prev.next = w.next;
+        if (w.next == null) lastWaiter = w.prev; else w.next.prev = w.prev;
+        w.prev = w.next = null;
+        w.queued = false;
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    /**
+     * Create an executor running one virtual thread per task when the JDK
+     * supports it (21+), otherwise a platform thread per task
+     */
+    private static ExecutorService newThreadPerTaskExecutor(boolean[] isVirtual) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            isVirtual[0] = true;
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            isVirtual[0] = false;
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Main method: basic operations plus wakeup/handoff latency measurement
+     * @param args Optional: number of consumers (default 10,000 with virtual
+     *             threads, 200 with platform threads)
+     */
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== Blocking Int Queue Demo ===\n");
+
+        BlockingIntQueue queue = new BlockingIntQueue();
+        queue.putAll(new int[] {10, 20, 30, 40, 50}, 0, 5);
+        System.out.println("Take: " + queue.take());
+        System.out.println("Poll(10ms): " + queue.poll(10, TimeUnit.MILLISECONDS));
+        int[] batch = new int[8];
+        int n = queue.drainTo(batch, 8);
+        System.out.print("Drained " + n + ": ");
+        for (int i = 0; i < n; i++) System.out.print(batch[i] + " ");
+        System.out.println();
+        queue.putAll(new int[] {60, 70, 80}, 0, 3);
+        System.out.print("Drained to sink: ");
+        queue.drainTo(value -> System.out.print(value + " "), 8);
+        System.out.println();
+        try {
+            queue.poll(5, TimeUnit.MILLISECONDS);
+        } catch (NoSuchElementException e) {
+            System.out.println("Poll timed out on empty queue");
+        }
+
+        // Interrupt stress: consumers are interrupted while parked and go back to
+        // waiting; batches from putAll must still all be taken (no lost wakeups)
+        BlockingIntQueue stress = new BlockingIntQueue();
+        int stressConsumers = 8;
+        int stressBatches = 20_000;
+        LongAdder taken = new LongAdder();
+        Thread[] takers = new Thread[stressConsumers];
+        for (int c = 0; c < stressConsumers; c++) {
+            takers[c] = new Thread(() -> {
+                while (true) {
+                    try {
+                        if (stress.take() < 0) return;
+                        taken.increment();
+                    } catch (InterruptedException e) {
+                        // interrupted while waiting: wait again
+                    }
+                }
+            });
+            takers[c].start();
+        }
+        java.util.Random random = new java.util.Random(30);
+        int[] chunk = {1, 2, 3, 4};
+        for (int i = 0; i < stressBatches; i++) {
+            stress.putAll(chunk, 0, 1 + random.nextInt(chunk.length));
+            takers[random.nextInt(stressConsumers)].interrupt();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (stress.size() > 0 && System.nanoTime() < deadline) Thread.sleep(1);
+        System.out.println("Interrupt stress: queue drained " + (stress.size() == 0)
+                + " (" + taken.sum() + " elements taken)");
+        for (int c = 0; c < stressConsumers; c++) stress.put(-1);
+        for (Thread taker : takers) taker.join();
+
+        // Latency: each element carries its enqueue time in microseconds
+        boolean[] isVirtual = new boolean[1];
+        ExecutorService executor = newThreadPerTaskExecutor(isVirtual);
+        int consumers = args.length > 0 ? Integer.parseInt(args[0]) : (isVirtual[0] ? 10_000 : 200);
+        int messages = consumers * 20;
+        long origin = System.nanoTime();
+
+        BlockingIntQueue shared = new BlockingIntQueue();
+        LongAdder received = new LongAdder();
+        LongAdder totalLatencyMicros = new LongAdder();
+        AtomicLong maxLatencyMicros = new AtomicLong();
+
+        for (int c = 0; c < consumers; c++) {
+            executor.execute(() -> {
+                int[] local = new int[64];
+                try {
+                    while (true) {
+                        int got = shared.drainTo(local, local.length);
+                        int now = (int) ((System.nanoTime() - origin) / 1000);
+                        int pills = 0;
+                        for (int i = 0; i < got; i++) {
+                            if (local[i] < 0) { // poison pill
+                                pills++;
+                                continue;
+                            }
+                            long latency = now - local[i];
+                            totalLatencyMicros.add(latency);
+                            maxLatencyMicros.accumulateAndGet(latency, Math::max);
+                        }
+                        if (pills > 0) {
+                            for (int i = 1; i < pills; i++) shared.put(-1); // hand extra pills back
+                            return;
+                        }
+                        received.add(got);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        Thread.sleep(200); // let consumers park
+
+        long start = System.nanoTime();
+        for (int i = 0; i < messages; i++) {
+            shared.put((int) ((System.nanoTime() - origin) / 1000));
+            if ((i & 1023) == 0) Thread.yield();
+        }
+        while (received.sum() < messages) {
+            Thread.sleep(1);
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        for (int c = 0; c < consumers; c++) shared.put(-1);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        System.out.println("\n--- Handoff latency (" + consumers + (isVirtual[0] ? " virtual" : " platform")
+                + " consumers, " + messages + " messages) ---");
+        System.out.printf("Total time: %.1f ms%n", millis);
+        System.out.printf("Average latency: %.1f us, max: %d us%n",
+                totalLatencyMicros.sum() / (double) messages, maxLatencyMicros.get());
+
+        System.out.println("\n=== Blocking Int Queue Demo Complete ===");
+    }
+}
@@ -0,0 +1,266 @@
+package Queue;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Chunked (Unrolled) LinkedList-based Queue
+ *
+ * Same API and semantics as Queue.LinkedQueue (unbounded FIFO of ints), but
+ * instead of one Node per element it links fixed-size int[] chunks.
+ *
+ * - enqueue writes into the tail chunk; a new chunk is linked only when it fills up
+ * - dequeue reads from the head chunk; an exhausted chunk is unlinked and put
+ *   back into a small pool, so the next chunk the tail needs is reused
+ * - In steady state (queue depth stays within chunkSize * (poolSize + 1)) no
+ *   allocation happens at all: amortized zero allocation per element
+ *
+ * Memory: about 4 bytes per element instead of a 16-24 byte Node object,
+ * and elements are contiguous, so scans and dequeues are cache friendly.
+ *
+ * Time Complexities: All basic operations O(1)
+ *
+ * @author Interview Preparation
+ */
+public class ChunkedQueue {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+    public static final int DEFAULT_POOL_SIZE = 4;
+
+    /**
+     * Fixed-size block of elements
+     */
+    private static class Chunk {
+        final int[] data;
+        Chunk next;
+
+        Chunk(int size) {
+            this.data = new int[size];
+        }
+    }
+
+    private final int chunkSize;
+    private final Chunk[] pool;   // recycled empty chunks (stack)
+    private int pooled;
+
+    private Chunk headChunk;      // chunk holding the front element
+    private int headIndex;        // index of the front element in headChunk
+    private Chunk tailChunk;      // chunk receiving the next enqueue
+    private int tailIndex;        // next free index in tailChunk
+    private int size;
+
+    /**
+     * Constructor
+     * @param chunkSize Elements per chunk
+     * @param poolSize Maximum number of empty chunks kept for reuse
+     */
+    public ChunkedQueue(int chunkSize, int poolSize) {
+        if (chunkSize <= 0 || poolSize < 0) {
+            throw new IllegalArgumentException("Chunk size must be positive and pool size non-negative");
+        }
+        this.chunkSize = chunkSize;
+        this.pool = new Chunk[poolSize];
+        this.headChunk = this.tailChunk = new Chunk(chunkSize);
+        this.headIndex = 0;
+        this.tailIndex = 0;
+        this.size = 0;
+    }
+
+    public ChunkedQueue() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_POOL_SIZE);
+    }
+
+    // ==================== BASIC OPERATIONS ====================
+
+    /**
+     * Add element to rear of queue
+     * @param data Element to add
+     * Time Complexity: O(1) amortized, no allocation once the pool is warm
+     */
+    public void enqueue(int data) {
+        if (tailIndex == chunkSize) {
+            Chunk chunk = acquireChunk();
+            tailChunk.next = chunk;
+            tailChunk = chunk;
+            tailIndex = 0;
+        }
+        tailChunk.data[tailIndex++] = data;
+        size++;
+    }
+
+    /**
+     * Remove and return front element
+     * @return Front element
+     * @throws NoSuchElementException if queue is empty
+     * Time Complexity: O(1)
+     */
+    public int dequeue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+
+        int data = headChunk.data[headIndex++];
+        size--;
+
+        if (size == 0) {
+            // Queue became empty: rewind to the start of the current chunk
+            // and recycle any chunk left behind it
+            if (headChunk != tailChunk) {
+                releaseChunk(headChunk);
+                headChunk = tailChunk;
+            }
+            headIndex = tailIndex = 0;
+        } else if (headIndex == chunkSize) {
+            Chunk exhausted = headChunk;
+            headChunk = headChunk.next;
+            headIndex = 0;
+            releaseChunk(exhausted);
+        }
+        return data;
+    }
+
+    /**
+     * View front element without removing
+     * @return Front element
+     * @throws NoSuchElementException if queue is empty
+     * Time Complexity: O(1)
+     */
+    public int front() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return headChunk.data[headIndex];
+    }
+
+    /**
+     * View rear element
+     * @return Rear element
+     * @throws NoSuchElementException if queue is empty
+     * Time Complexity: O(1)
+     */
+    public int rear() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return tailChunk.data[tailIndex - 1];
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    /**
+     * Display all elements in queue
+     */
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("Queue is empty");
+            return;
+        }
+
+        System.out.print("Queue (front to rear): ");
+        Chunk chunk = headChunk;
+        int index = headIndex;
+        for (int i = 0; i < size; i++) {
+            if (index == chunkSize) {
+                chunk = chunk.next;
+                index = 0;
+            }
+            System.out.print(chunk.data[index++]);
+            if (i < size - 1) System.out.print(" <- ");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Clear all elements, keeping up to poolSize chunks for reuse
+     */
+    public void clear() {
+        Chunk chunk = headChunk.next;
+        while (chunk != null) {
+            Chunk next = chunk.next;
+            releaseChunk(chunk);
+            chunk = next;
+        }
+        headChunk.next = null;
+        tailChunk = headChunk;
+        headIndex = tailIndex = 0;
+        size = 0;
+    }
+
+    // ==================== CHUNK POOL ====================
+
+    private Chunk acquireChunk() {
+        if (pooled > 0) {
+            Chunk chunk = pool[--pooled];
+            pool[pooled] = null;
+            return chunk;
+        }
+        return new Chunk(chunkSize);
+    }
+
+    private void releaseChunk(Chunk chunk) {
+        chunk.next = null;
+        if (pooled < pool.length) {
+            pool[pooled++] = chunk;
+        }
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    /**
+     * Main method for testing ChunkedQueue
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Chunked Queue Demo ===\n");
+
+        // Tiny chunks so chunk boundaries are exercised
+        ChunkedQueue queue = new ChunkedQueue(3, 2);
+        for (int i = 1; i <= 7; i++) queue.enqueue(i * 10);
+        queue.display();
+        System.out.println("Size: " + queue.size());
+        System.out.println("Front: " + queue.front());
+        System.out.println("Rear: " + queue.rear());
+        System.out.print("Dequeue x4: ");
+        for (int i = 0; i < 4; i++) System.out.print(queue.dequeue() + " ");
+        System.out.println();
+        queue.display();
+
+        // Compare against LinkedQueue for a steady-state FIFO workload
+        int rounds = 5_000_000;
+        int depth = 2_000;
+        ChunkedQueue chunked = new ChunkedQueue();
+        Queue.LinkedQueue linked = new Queue.LinkedQueue();
+
+        for (int warmup = 0; warmup < 3; warmup++) {
+            long start = System.nanoTime();
+            long sum = 0;
+            for (int i = 0; i < depth; i++) chunked.enqueue(i);
+            for (int i = 0; i < rounds; i++) {
+                chunked.enqueue(i);
+                sum += chunked.dequeue();
+            }
+            chunked.clear();
+            long chunkedNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < depth; i++) linked.enqueue(i);
+            for (int i = 0; i < rounds; i++) {
+                linked.enqueue(i);
+                sum -= linked.dequeue();
+            }
+            linked.clear();
+            long linkedNanos = System.nanoTime() - start;
+
+            System.out.printf("Round %d: ChunkedQueue %.1f ms, LinkedQueue %.1f ms (checksum %d)%n",
+                    warmup + 1, chunkedNanos / 1e6, linkedNanos / 1e6, sum);
+        }
+
+        // Edge case: underflow
+        try {
+            new ChunkedQueue().dequeue();
+        } catch (NoSuchElementException e) {
+            System.out.println("\nCaught queue underflow: " + e.getClass().getSimpleName());
+        }
+
+        System.out.println("\n=== Chunked Queue Demo Complete ===");
+    }
+}
@@ -0,0 +1,240 @@
+package Queue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.function.IntConsumer;
+
+/**
+ * Streaming First Non-Repeating Character Operator (Unicode aware)
+ *
+ * Reusable, allocation-free generalization of Queue.firstNonRepeatingCharacter:
+ * - Works on any Unicode code point (U+0000 .. U+10FFFF), including surrogate
+ *   pairs split across Reader buffer boundaries, not just chars below 256
+ * - Emits each answer (a code point, or NONE) to an IntConsumer instead of printing
+ * - O(1) per character in the worst case: candidates are kept in a doubly linked
+ *   list threaded through prev/next arrays indexed by code point. A code point is
+ *   appended on its first occurrence and unlinked on its second; the answer is
+ *   always the head of the list. The queue version could re-scan many repeated
+ *   entries on a single character and kept one entry per character seen
+ *
+ * Memory: state is stored in pages of 256 code points allocated on first use,
+ * so an ASCII log touches a single page and the total is bounded by the alphabet,
+ * not by the stream length.
+ *
+ * @author Interview Preparation
+ */
+public class FirstNonRepeatingOperator {
+
+    /** Emitted when every code point seen so far repeats */
+    public static final int NONE = -1;
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int PAGE_COUNT = (Character.MAX_CODE_POINT + 1) >> PAGE_BITS;
+
+    private static final byte UNSEEN = 0;
+    private static final byte ONCE = 1;
+    private static final byte REPEATED = 2;
+
+    private final byte[][] state = new byte[PAGE_COUNT][];
+    private final int[][] prev = new int[PAGE_COUNT][];
+    private final int[][] next = new int[PAGE_COUNT][];
+    private int head = NONE;   // first non-repeating code point
+    private int tail = NONE;   // most recent candidate
+    private final IntConsumer sink;
+
+    private char pendingHighSurrogate; // high surrogate waiting for its pair (Reader input)
+
+    /**
+     * Constructor
+     * @param sink Receives one answer per input code point
+     */
+    public FirstNonRepeatingOperator(IntConsumer sink) {
+        this.sink = sink;
+    }
+
+    // ==================== STREAM OPERATIONS ====================
+
+    /**
+     * Process one code point and emit the current answer
+     * Time Complexity: O(1)
+     */
+    public void accept(int codePoint) {
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+            throw new IllegalArgumentException("Invalid code point: " + codePoint);
+        }
+        int page = codePoint >>> PAGE_BITS;
+        int slot = codePoint & PAGE_MASK;
+        byte[] states = state[page];
+        if (states == null) {
+            states = allocatePage(page);
+        }
+
+        if (states[slot] == UNSEEN) {
+            states[slot] = ONCE;
+            append(codePoint, page, slot);
+        } else if (states[slot] == ONCE) {
+            states[slot] = REPEATED;
+            unlink(page, slot);
+        }
+        sink.accept(head);
+    }
+
+    /**
+     * Process every code point of the sequence
+     * Time Complexity: O(n)
+     */
+    public void accept(CharSequence text) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            acceptChar(text.charAt(i));
+        }
+    }
+
+    /**
+     * Process the whole reader through a reusable buffer
+     * @param buffer Scratch buffer (its size sets the read granularity)
+     * @return Number of chars read
+     */
+    public long accept(Reader reader, char[] buffer) throws IOException {
+        long total = 0;
+        int n;
+        while ((n = reader.read(buffer)) >= 0) {
+            for (int i = 0; i < n; i++) {
+                acceptChar(buffer[i]);
+            }
+            total += n;
+        }
+        finish();
+        return total;
+    }
+
+    public long accept(Reader reader) throws IOException {
+        return accept(reader, new char[8192]);
+    }
+
+    /**
+     * End of input: a dangling high surrogate is emitted as a code point of its own.
+     * accept(Reader) calls this itself; call it after the last accept(CharSequence)
+     * chunk, since a surrogate pair may be split between chunks
+     */
+    public void finish() {
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            accept(high);
+        }
+    }
+
+    /**
+     * Current answer without consuming input
+     */
+    public int current() { return head; }
+
+    /**
+     * Forget everything seen so far (pages are kept for reuse)
+     */
+    public void reset() {
+        for (int page = 0; page < PAGE_COUNT; page++) {
+            if (state[page] != null) java.util.Arrays.fill(state[page], UNSEEN);
+        }
+        head = tail = NONE;
+        pendingHighSurrogate = 0;
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    /**
+     * Combine surrogate pairs, including pairs split across calls.
+     * An unpaired surrogate is treated as a code point of its own.
+     */
+    private void acceptChar(char ch) {
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(ch)) {
+                accept(Character.toCodePoint(high, ch));
+                return;
+            }
+            accept(high);
+        }
+        if (Character.isHighSurrogate(ch)) {
+            pendingHighSurrogate = ch;
+        } else {
+            accept(ch);
+        }
+    }
+
+    private byte[] allocatePage(int page) {
+        prev[page] = new int[PAGE_SIZE];
+        next[page] = new int[PAGE_SIZE];
+        return state[page] = new byte[PAGE_SIZE];
+    }
+
+    private void append(int codePoint, int page, int slot) {
+        prev[page][slot] = tail;
+        next[page][slot] = NONE;
+        if (tail == NONE) {
+            head = codePoint;
+        } else {
+            next[tail >>> PAGE_BITS][tail & PAGE_MASK] = codePoint;
+        }
+        tail = codePoint;
+    }
+
+    private void unlink(int page, int slot) {
+        int p = prev[page][slot];
+        int n = next[page][slot];
+        if (p == NONE) head = n; else next[p >>> PAGE_BITS][p & PAGE_MASK] = n;
+        if (n == NONE) tail = p; else prev[n >>> PAGE_BITS][n & PAGE_MASK] = p;
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== First Non-Repeating Operator Demo ===\n");
+
+        StringBuilder out = new StringBuilder();
+        FirstNonRepeatingOperator operator = new FirstNonRepeatingOperator(cp -> {
+            if (cp == NONE) out.append("-1 ");
+            else out.appendCodePoint(cp).append(' ');
+        });
+
+        operator.accept("geeksforgeeks");
+        System.out.println("geeksforgeeks -> " + out);
+
+        // Supplementary code points, read through a 1-char buffer so every
+        // surrogate pair is split across reads
+        out.setLength(0);
+        operator.reset();
+        String emoji = "a\uD83D\uDE00b\uD83D\uDE00a\u00E9b"; // a, U+1F600, b, U+1F600, a, e-acute, b
+        operator.accept(new StringReader(emoji), new char[1]);
+        System.out.print("a U+1F600 b U+1F600 a U+00E9 b -> ");
+        for (int i = 0; i < out.length(); ) {
+            int cp = out.codePointAt(i);
+            System.out.print(cp < 128 ? String.valueOf((char) cp) : String.format("U+%04X", cp));
+            i += Character.charCount(cp);
+        }
+        System.out.println();
+
+        // Throughput on a long synthetic log without printing
+        long[] answers = new long[1];
+        FirstNonRepeatingOperator counter = new FirstNonRepeatingOperator(cp -> answers[0] += cp);
+        StringBuilder log = new StringBuilder();
+        java.util.Random random = new java.util.Random(1);
+        for (int i = 0; i < 20_000_000; i++) log.append((char) ('a' + random.nextInt(26)));
+        log.append('\u4E2D'); // a CJK char that appears once
+
+        long start = System.nanoTime();
+        counter.accept(log);
+        counter.finish();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%nProcessed %d chars at %.1f M chars/s, final answer: %s%n",
+                log.length(), log.length() / seconds / 1e6,
+                counter.current() == NONE ? "-1" : String.format("U+%04X", counter.current()));
+
+        System.out.println("\n=== First Non-Repeating Operator Demo Complete ===");
+    }
+}
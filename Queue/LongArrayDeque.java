@@ -0,0 +1,177 @@
+package Queue;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Growable Circular-Array Deque of primitive longs
+ *
+ * Same operations as Queue.Deque (addFront/addRear/removeFront/removeRear/peek),
+ * but elements live in one long[] ring instead of one DoublyNode per element:
+ * no allocation per element, no boxing, and random access by position.
+ * Ints are stored widened to long.
+ *
+ * - Capacity is a power of two, so wrap-around is (index & mask)
+ * - When full, the ring doubles and is unrolled so front is at index 0
+ *
+ * Time Complexities:
+ * - addFront / addRear: O(1) amortized
+ * - removeFront / removeRear / peek / get: O(1)
+ *
+ * @author Interview Preparation
+ */
+public class LongArrayDeque {
+
+    private long[] elements;
+    private int mask;
+    private int head;     // index of front element
+    private int size;
+
+    /**
+     * Constructor
+     * @param initialCapacity Initial capacity, rounded up to a power of two
+     */
+    public LongArrayDeque(int initialCapacity) {
+        int capacity = Math.max(2, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+        this.elements = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public LongArrayDeque() {
+        this(16);
+    }
+
+    // ==================== BASIC OPERATIONS ====================
+
+    /**
+     * Add element to front
+     * Time Complexity: O(1) amortized
+     */
+    public void addFront(long data) {
+        if (size == elements.length) grow();
+        head = (head - 1) & mask;
+        elements[head] = data;
+        size++;
+    }
+
+    /**
+     * Add element to rear
+     * Time Complexity: O(1) amortized
+     */
+    public void addRear(long data) {
+        if (size == elements.length) grow();
+        elements[(head + size) & mask] = data;
+        size++;
+    }
+
+    /**
+     * Remove element from front
+     * @throws NoSuchElementException if deque is empty
+     * Time Complexity: O(1)
+     */
+    public long removeFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        long data = elements[head];
+        head = (head + 1) & mask;
+        size--;
+        return data;
+    }
+
+    /**
+     * Remove element from rear
+     * @throws NoSuchElementException if deque is empty
+     * Time Complexity: O(1)
+     */
+    public long removeRear() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        size--;
+        return elements[(head + size) & mask];
+    }
+
+    public long peekFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        return elements[head];
+    }
+
+    public long peekRear() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        return elements[(head + size - 1) & mask];
+    }
+
+    /**
+     * Element at position i counted from the front
+     * @throws IndexOutOfBoundsException if i is not in [0, size)
+     * Time Complexity: O(1)
+     */
+    public long get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return elements[(head + i) & mask];
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Display deque
+     */
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("Deque is empty");
+            return;
+        }
+        System.out.print("Deque: ");
+        for (int i = 0; i < size; i++) {
+            System.out.print(elements[(head + i) & mask]);
+            if (i < size - 1) System.out.print(" <-> ");
+        }
+        System.out.println();
+    }
+
+    /**
+     * Double the capacity, unrolling the ring so front lands at index 0
+     */
+    private void grow() {
+        long[] bigger = new long[elements.length * 2];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, bigger, 0, firstPart);
+        System.arraycopy(elements, 0, bigger, firstPart, head);
+        elements = bigger;
+        mask = bigger.length - 1;
+        head = 0;
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) {
+        System.out.println("=== Long Array Deque Demo ===\n");
+
+        LongArrayDeque deque = new LongArrayDeque(2);
+        deque.addFront(10);
+        deque.addRear(20);
+        deque.addFront(5);
+        deque.addRear(25);
+        deque.addRear(30);
+        deque.display();
+        System.out.println("Size: " + deque.size());
+        System.out.println("Front: " + deque.peekFront() + ", Rear: " + deque.peekRear() + ", get(2): " + deque.get(2));
+        System.out.println("Remove from front: " + deque.removeFront());
+        System.out.println("Remove from rear: " + deque.removeRear());
+        deque.display();
+
+        System.out.println("\n=== Long Array Deque Demo Complete ===");
+    }
+}
@@ -0,0 +1,328 @@
+package Queue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Growable Priority Queue with long priorities and int / object payloads
+ *
+ * Extends the idea of Queue.PriorityQueue (binary max-heap of ints):
+ * - Grows by doubling instead of throwing "Priority Queue is full"
+ * - Priority and payload are separate: each entry is (long priority, payload)
+ * - Entries live in parallel arrays (long[] keys, long[] sequence numbers,
+ *   int[] payloads, Object[] object payloads): no entry object, no boxing
+ * - Equal priorities come out in FIFO order: a per-entry sequence number
+ *   breaks ties, which makes the heap stable
+ * - Sift up/down move a "hole" instead of swapping, about half the writes
+ *
+ * Ordering: maxFirst() serves the highest priority first, like Queue.PriorityQueue;
+ * minFirst() serves the lowest first. Min order stores ~priority, which reverses
+ * the order of every long (including Long.MIN_VALUE) without overflow.
+ *
+ * Time Complexities:
+ * - offer / poll: O(log n), offer amortized for growth
+ * - peek: O(1)
+ * - pollBatch(n): O(n log size)
+ *
+ * @author Interview Preparation
+ */
+public class LongPriorityQueue<T> {
+
+    private final boolean minFirst;
+    private long[] keys;        // heap-ordered keys (priority, or ~priority for min order)
+    private long[] sequences;   // insertion order for FIFO tie-breaking
+    private int[] payloads;
+    private Object[] objects;   // allocated on first object offer
+    private int size;
+    private long nextSequence;
+
+    private LongPriorityQueue(boolean minFirst, int initialCapacity) {
+        int capacity = Math.max(2, initialCapacity);
+        this.minFirst = minFirst;
+        this.keys = new long[capacity];
+        this.sequences = new long[capacity];
+        this.payloads = new int[capacity];
+    }
+
+    /**
+     * Highest priority is served first
+     */
+    public static <T> LongPriorityQueue<T> maxFirst(int initialCapacity) {
+        return new LongPriorityQueue<>(false, initialCapacity);
+    }
+
+    /**
+     * Lowest priority is served first (deadlines, distances, ...)
+     */
+    public static <T> LongPriorityQueue<T> minFirst(int initialCapacity) {
+        return new LongPriorityQueue<>(true, initialCapacity);
+    }
+
+    // ==================== INSERTION ====================
+
+    /**
+     * Add an entry with an int payload
+     * Time Complexity: O(log n) amortized
+     */
+    public void offer(long priority, int payload) {
+        offer(priority, payload, null);
+    }
+
+    /**
+     * Add an entry with an object payload
+     * Time Complexity: O(log n) amortized
+     */
+    public void offer(long priority, T payload) {
+        offer(priority, 0, payload);
+    }
+
+    private void offer(long priority, int payload, Object object) {
+        if (size == keys.length) {
+            grow();
+        }
+        if (object != null && objects == null) {
+            objects = new Object[keys.length];
+        }
+        siftUp(size++, minFirst ? ~priority : priority, nextSequence++, payload, object);
+    }
+
+    // ==================== INSPECTION ====================
+
+    public long peekPriority() {
+        checkNotEmpty();
+        return priorityAt(0);
+    }
+
+    public int peek() {
+        checkNotEmpty();
+        return payloads[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T peekObject() {
+        checkNotEmpty();
+        return objects == null ? null : (T) objects[0];
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+
+    // ==================== REMOVAL ====================
+
+    /**
+     * Remove the highest-priority entry and return its int payload
+     * @throws NoSuchElementException if empty
+     * Time Complexity: O(log n)
+     */
+    public int poll() {
+        checkNotEmpty();
+        int payload = payloads[0];
+        removeTop();
+        return payload;
+    }
+
+    /**
+     * Remove the highest-priority entry and return its object payload
+     * @throws NoSuchElementException if empty
+     * Time Complexity: O(log n)
+     */
+    @SuppressWarnings("unchecked")
+    public T pollObject() {
+        checkNotEmpty();
+        T object = objects == null ? null : (T) objects[0];
+        removeTop();
+        return object;
+    }
+
+    /**
+     * Remove up to n entries in priority order into the output arrays
+     * @param n Maximum number of entries
+     * @param outPriority Receives priorities (may be null)
+     * @param outPayload Receives int payloads (may be null)
+     * @return Number of entries removed
+     * Time Complexity: O(n log size)
+     */
+    public int pollBatch(int n, long[] outPriority, int[] outPayload) {
+        int count = Math.min(n, size);
+        for (int i = 0; i < count; i++) {
+            if (outPriority != null) outPriority[i] = priorityAt(0);
+            if (outPayload != null) outPayload[i] = payloads[0];
+            removeTop();
+        }
+        return count;
+    }
+
+    /**
+     * Remove up to n entries in priority order into the output arrays
+     * @return Number of entries removed
+     */
+    @SuppressWarnings("unchecked")
+    public int pollBatch(int n, long[] outPriority, T[] outPayload) {
+        int count = Math.min(n, size);
+        for (int i = 0; i < count; i++) {
+            if (outPriority != null) outPriority[i] = priorityAt(0);
+            if (outPayload != null) outPayload[i] = objects == null ? null : (T) objects[0];
+            removeTop();
+        }
+        return count;
+    }
+
+    public void clear() {
+        if (objects != null) Arrays.fill(objects, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Display entries in heap (array) order
+     */
+    public void display() {
+        if (isEmpty()) {
+            System.out.println("Priority Queue is empty");
+            return;
+        }
+        System.out.print("Priority Queue: ");
+        for (int i = 0; i < size; i++) {
+            System.out.print("(" + priorityAt(i) + ", " + (objects != null && objects[i] != null ? objects[i] : payloads[i]) + ") ");
+        }
+        System.out.println();
+    }
+
+    // ==================== HEAP OPERATIONS ====================
+
+    private long priorityAt(int i) {
+        return minFirst ? ~keys[i] : keys[i];
+    }
+
+    /**
+     * Does (key, seq) come out before the entry at index i?
+     */
+    private boolean before(long key, long seq, int i) {
+        return key > keys[i] || (key == keys[i] && seq < sequences[i]);
+    }
+
+    private void removeTop() {
+        int last = --size;
+        Object lastObject = objects == null ? null : objects[last];
+        if (objects != null) objects[last] = null;
+        if (last > 0) {
+            siftDown(0, keys[last], sequences[last], payloads[last], lastObject);
+        }
+    }
+
+    /**
+     * Move the hole at index up until the new entry fits, then write it
+     */
+    private void siftUp(int index, long key, long seq, int payload, Object object) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(key, seq, parent)) break;
+            move(parent, index);
+            index = parent;
+        }
+        write(index, key, seq, payload, object);
+    }
+
+    /**
+     * Move the hole at index down until the entry fits, then write it
+     */
+    private void siftDown(int index, long key, long seq, int payload, Object object) {
+        int half = size >>> 1; // nodes below half have at least one child
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && before(keys[right], sequences[right], child)) {
+                child = right;
+            }
+            if (before(key, seq, child)) break;
+            move(child, index);
+            index = child;
+        }
+        write(index, key, seq, payload, object);
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        sequences[to] = sequences[from];
+        payloads[to] = payloads[from];
+        if (objects != null) objects[to] = objects[from];
+    }
+
+    private void write(int index, long key, long seq, int payload, Object object) {
+        keys[index] = key;
+        sequences[index] = seq;
+        payloads[index] = payload;
+        if (objects != null) objects[index] = object;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        payloads = Arrays.copyOf(payloads, capacity);
+        if (objects != null) objects = Arrays.copyOf(objects, capacity);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Priority Queue is empty");
+        }
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) {
+        System.out.println("=== Long Priority Queue Demo ===\n");
+
+        // Starts tiny and grows; equal priorities keep FIFO order
+        LongPriorityQueue<String> pq = maxFirst(2);
+        pq.offer(30L, 1);
+        pq.offer(10L, 2);
+        pq.offer(50L, 3);
+        pq.offer(30L, 4);
+        pq.offer(30L, 5);
+        pq.display();
+        System.out.println("Peek: priority " + pq.peekPriority() + ", payload " + pq.peek());
+        long[] prio = new long[8];
+        int[] payload = new int[8];
+        int n = pq.pollBatch(8, prio, payload);
+        System.out.print("Poll order (priority:payload): ");
+        for (int i = 0; i < n; i++) System.out.print(prio[i] + ":" + payload[i] + " ");
+        System.out.println();
+
+        // Object payloads, min order
+        LongPriorityQueue<String> deadlines = minFirst(4);
+        deadlines.offer(1_700_000_000_300L, "flush");
+        deadlines.offer(1_700_000_000_100L, "retry");
+        deadlines.offer(Long.MIN_VALUE, "urgent");
+        deadlines.offer(1_700_000_000_100L, "heartbeat");
+        System.out.print("Min-first objects: ");
+        while (!deadlines.isEmpty()) System.out.print(deadlines.pollObject() + " ");
+        System.out.println();
+
+        // Heap sort check on random priorities
+        LongPriorityQueue<Object> big = minFirst(16);
+        java.util.Random random = new java.util.Random(3);
+        int count = 1_000_000;
+        for (int i = 0; i < count; i++) big.offer(random.nextLong(), i);
+        long prev = Long.MIN_VALUE;
+        boolean sorted = true;
+        long[] batchPrio = new long[1024];
+        while (!big.isEmpty()) {
+            int got = big.pollBatch(batchPrio.length, batchPrio, (int[]) null);
+            for (int i = 0; i < got; i++) {
+                if (batchPrio[i] < prev) sorted = false;
+                prev = batchPrio[i];
+            }
+        }
+        System.out.println("\n" + count + " random priorities polled in order: " + sorted);
+
+        // Edge case: underflow
+        try {
+            big.poll();
+        } catch (NoSuchElementException e) {
+            System.out.println("Caught underflow: " + e.getMessage());
+        }
+
+        System.out.println("\n=== Long Priority Queue Demo Complete ===");
+    }
+}
@@ -0,0 +1,307 @@
+package Queue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded Multi-Producer / Multi-Consumer Array Queue (Vyukov)
+ *
+ * Thread-safe bounded queue of ints for any number of producers and consumers.
+ * Queue.ArrayQueue and Queue.LinkedQueue are single-threaded; this one uses no
+ * locks on the fast path.
+ *
+ * How it works:
+ * - Power-of-two ring of slots, each slot carries a sequence number
+ * - Slot i starts with sequence i
+ * - A producer at position p may write slot (p & mask) only if its sequence == p.
+ *   It claims p with a CAS on tail, writes the value, then publishes sequence p + 1
+ * - A consumer at position p may read slot (p & mask) only if its sequence == p + 1.
+ *   It claims p with a CAS on head, reads the value, then publishes
+ *   sequence p + capacity so the slot is free for the next lap
+ * - sequence < expected means full (producer) / empty (consumer)
+ *
+ * Each producer and consumer touches only one CAS-ed counter and one slot, so
+ * producers do not contend with consumers except on a nearly full/empty queue.
+ * head and tail live on separate cache lines.
+ *
+ * Time Complexities:
+ * - offer / poll: O(1), lock-free (retries only when another thread won the CAS)
+ *
+ * @author Interview Preparation
+ */
+public final class MpmcArrayQueue extends MpmcHeadPadding {
+
+    /** Returned by tryPoll() when the queue is empty */
+    public static final long EMPTY = Long.MIN_VALUE;
+
+    private static final AtomicLongFieldUpdater<MpmcTailFields> TAIL =
+            AtomicLongFieldUpdater.newUpdater(MpmcTailFields.class, "tail");
+    private static final AtomicLongFieldUpdater<MpmcHeadFields> HEAD =
+            AtomicLongFieldUpdater.newUpdater(MpmcHeadFields.class, "head");
+
+    private final int[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    /**
+     * Constructor
+     * @param requestedCapacity Minimum capacity, rounded up to a power of two (at least 2)
+     */
+    public MpmcArrayQueue(int requestedCapacity) {
+        if (requestedCapacity <= 0 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + requestedCapacity);
+        }
+        int capacity = Math.max(2, 1 << (32 - Integer.numberOfLeadingZeros(requestedCapacity - 1)));
+        this.buffer = new int[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // ==================== CORE OPERATIONS ====================
+
+    /**
+     * Add element to rear
+     * @param data Element to add
+     * @return false if the queue is full
+     * Time Complexity: O(1)
+     */
+    public boolean offer(int data) {
+        long pos = tail;
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+
+            if (diff == 0) {
+                if (TAIL.compareAndSet(this, pos, pos + 1)) {
+                    buffer[index] = data;
+                    sequences.lazySet(index, pos + 1);
+                    return true;
+                }
+                pos = tail; // lost the race, retry at the new tail
+            } else if (diff < 0) {
+                return false; // slot still holds last lap's value: full
+            } else {
+                pos = tail; // another producer already claimed pos
+            }
+        }
+    }
+
+    /**
+     * Remove front element without throwing on empty
+     * @return Front element widened to long, or EMPTY if the queue is empty
+     * Time Complexity: O(1)
+     */
+    public long tryPoll() {
+        long pos = head;
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - (pos + 1);
+
+            if (diff == 0) {
+                if (HEAD.compareAndSet(this, pos, pos + 1)) {
+                    int data = buffer[index];
+                    sequences.lazySet(index, pos + mask + 1);
+                    return data;
+                }
+                pos = head;
+            } else if (diff < 0) {
+                return EMPTY; // slot not yet written: empty
+            } else {
+                pos = head;
+            }
+        }
+    }
+
+    /**
+     * Remove and return front element
+     * @return Front element
+     * @throws NoSuchElementException if queue is empty
+     * Time Complexity: O(1)
+     */
+    public int poll() {
+        long value = tryPoll();
+        if (value == EMPTY) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Remove up to maxElements elements into dst
+     * @return Number of elements drained
+     */
+    public int drainTo(int[] dst, int maxElements) {
+        int n = 0;
+        while (n < maxElements) {
+            long value = tryPoll();
+            if (value == EMPTY) break;
+            dst[n++] = (int) value;
+        }
+        return n;
+    }
+
+    // ==================== UTILITY METHODS ====================
+
+    /**
+     * Approximate size under concurrency, exact when quiescent
+     */
+    public int size() {
+        long h = head;
+        long t = tail;
+        return (int) Math.max(0, Math.min(t - h, buffer.length));
+    }
+
+    public boolean isEmpty() { return size() == 0; }
+    public int capacity() { return buffer.length; }
+
+    // ======================= BENCHMARK =======================
+
+    /**
+     * Minimal int queue view so all implementations run the same loop
+     */
+    private interface IntQueueAdapter {
+        boolean offer(int value);
+        boolean poll();
+    }
+
+    private static IntQueueAdapter adapter(String name, int capacity) {
+        switch (name) {
+            case "MpmcArrayQueue": {
+                MpmcArrayQueue q = new MpmcArrayQueue(capacity);
+                return new IntQueueAdapter() {
+                    public boolean offer(int value) { return q.offer(value); }
+                    public boolean poll() { return q.tryPoll() != EMPTY; }
+                };
+            }
+            case "ArrayBlockingQueue": {
+                ArrayBlockingQueue<Integer> q = new ArrayBlockingQueue<>(capacity);
+                return new IntQueueAdapter() {
+                    public boolean offer(int value) { return q.offer(value); }
+                    public boolean poll() { return q.poll() != null; }
+                };
+            }
+            case "ConcurrentLinkedQueue": {
+                ConcurrentLinkedQueue<Integer> q = new ConcurrentLinkedQueue<>();
+                return new IntQueueAdapter() {
+                    public boolean offer(int value) { return q.offer(value); }
+                    public boolean poll() { return q.poll() != null; }
+                };
+            }
+            default:
+                throw new IllegalArgumentException("Unknown queue: " + name);
+        }
+    }
+
+    /**
+     * Run threads / 2 producers against threads / 2 consumers
+     * (a single thread alternates offer and poll).
+     * @return Throughput in million transferred elements per second
+     */
+    private static double benchmark(String name, int threads, int totalOps) throws InterruptedException {
+        IntQueueAdapter queue = adapter(name, 1024);
+        long start = System.nanoTime();
+
+        if (threads == 1) {
+            for (int i = 0; i < totalOps; i++) {
+                queue.offer(i);
+                queue.poll();
+            }
+        } else {
+            int producers = threads / 2;
+            int consumers = threads - producers;
+            int perProducer = totalOps / producers;
+            long expected = (long) perProducer * producers;
+            LongAdder consumed = new LongAdder();
+            Thread[] workers = new Thread[threads];
+
+            for (int p = 0; p < producers; p++) {
+                workers[p] = new Thread(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!queue.offer(i)) Thread.yield();
+                    }
+                });
+            }
+            for (int c = 0; c < consumers; c++) {
+                workers[producers + c] = new Thread(() -> {
+                    while (consumed.sum() < expected) {
+                        if (queue.poll()) consumed.increment();
+                        else Thread.yield();
+                    }
+                });
+            }
+            for (Thread worker : workers) worker.start();
+            for (Thread worker : workers) worker.join();
+            totalOps = (int) expected;
+        }
+        return totalOps / ((System.nanoTime() - start) / 1e3);
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    /**
+     * Main method: basic operations plus throughput comparison
+     * @param args Optional: total operations per run (default 2,000,000)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== MPMC Array Queue Demo ===\n");
+
+        MpmcArrayQueue queue = new MpmcArrayQueue(4);
+        for (int i = 1; i <= 5; i++) {
+            System.out.println("Offer " + (i * 10) + ": " + queue.offer(i * 10));
+        }
+        System.out.println("Size: " + queue.size());
+        System.out.println("Poll: " + queue.poll());
+        System.out.println("Poll: " + queue.poll());
+        System.out.println("Size: " + queue.size());
+
+        int totalOps = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        String[] names = {"MpmcArrayQueue", "ArrayBlockingQueue", "ConcurrentLinkedQueue"};
+        int[] threadCounts = {1, 2, 4, 8, 16, 32, 64};
+
+        System.out.println("\n--- Throughput (M ops/s, " + totalOps + " ops per run) ---");
+        System.out.printf("%-8s", "threads");
+        for (String name : names) System.out.printf("%24s", name);
+        System.out.println();
+
+        for (int threads : threadCounts) {
+            System.out.printf("%-8d", threads);
+            for (String name : names) {
+                benchmark(name, threads, totalOps / 10); // warm-up
+                System.out.printf("%24.1f", benchmark(name, threads, totalOps));
+            }
+            System.out.println();
+        }
+
+        System.out.println("\n=== MPMC Array Queue Demo Complete ===");
+    }
+}
+
+// ======================= CACHE LINE PADDING =======================
+// Keeps tail (producers) and head (consumers) on different cache lines.
+
+abstract class MpmcLeftPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class MpmcTailFields extends MpmcLeftPadding {
+    volatile long tail;
+}
+
+abstract class MpmcMiddlePadding extends MpmcTailFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpmcHeadFields extends MpmcMiddlePadding {
+    volatile long head;
+}
+
+abstract class MpmcHeadPadding extends MpmcHeadFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
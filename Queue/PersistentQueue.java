@@ -0,0 +1,412 @@
+package Queue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Disk-backed Persistent FIFO Queue using memory-mapped segment files
+ *
+ * Durable version of Queue.LinkedQueue (same enqueue / dequeue / front / rear / size API)
+ * for work that must survive restarts and may not fit in RAM.
+ *
+ * On-disk layout (directory per queue):
+ * - segment-<n>.dat : fixed-size file holding recordsPerSegment ints.
+ *                     Bytes [0, 8) hold the number of records committed to this segment
+ * - checkpoint.dat  : the reader cursor (global index of the next record to dequeue)
+ *
+ * Every record has a global index; record i lives in segment i / recordsPerSegment at
+ * slot i % recordsPerSegment. Writes are append-only into the mapped tail segment, so
+ * the OS sees purely sequential I/O. Only the tail segment and the segment under the
+ * reader are mapped: a retired segment is unmapped explicitly (sun.misc.Unsafe's
+ * invokeCleaner, the JDK's only unmap hook before Java 22), so address-space use and
+ * the disk blocks of deleted segments are released immediately rather than whenever
+ * the garbage collector gets to the buffer. If that hook is unavailable, unmapping
+ * falls back to the collector and a consumed segment may linger (or, on Windows,
+ * fail to delete) until then.
+ *
+ * Durability: every syncEvery enqueues (or on sync()/close()) the tail segment's
+ * commit count and the reader checkpoint are forced to disk. After a crash, records
+ * enqueued since the last sync may be lost and records dequeued since the last sync
+ * are delivered again (at-least-once). Fully consumed segments are deleted.
+ *
+ * Not thread-safe: use from a single thread or guard externally.
+ *
+ * Time Complexities: enqueue / dequeue / front / rear / size O(1)
+ *
+ * @author Interview Preparation
+ */
+public class PersistentQueue implements Closeable {
+
+    private static final int HEADER_BYTES = 64;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    /**
+     * One mapped segment file
+     */
+    private static final class Segment {
+        final long number;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+
+        Segment(Path dir, long number, int bytes) throws IOException {
+            this.number = number;
+            this.path = dir.resolve(SEGMENT_PREFIX + number + SEGMENT_SUFFIX);
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        }
+
+        /**
+         * Close and unmap; the buffer must not be touched afterwards
+         */
+        void close() throws IOException {
+            channel.close();
+            unmap(buffer);
+        }
+    }
+
+    // Unsafe.invokeCleaner(ByteBuffer) and its receiver, or null when unavailable
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null; // leave unmapping to the garbage collector
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    /**
+     * Release a mapping now instead of when the buffer is collected
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (UNSAFE == null || INVOKE_CLEANER == null) return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // keep the GC fallback
+        }
+    }
+
+    private final Path dir;
+    private final int recordsPerSegment;
+    private final int segmentBytes;
+    private final int syncEvery;
+
+    private final FileChannel checkpointChannel;
+    private final MappedByteBuffer checkpoint;
+
+    private Segment writer;     // segment of writePos
+    private Segment reader;     // segment of readPos (may be the writer)
+    private long writePos;      // global index of the next record to enqueue
+    private long readPos;       // global index of the next record to dequeue
+    private int lastValue;      // most recently enqueued value, for rear()
+    private boolean hasLastValue;
+    private int unsynced;
+    private boolean closed;
+
+    /**
+     * Open or create a queue in dir
+     * @param dir Directory holding segments and checkpoint
+     * @param recordsPerSegment Ints per segment file
+     * @param syncEvery Force to disk after this many enqueues (1 = every enqueue)
+     */
+    public PersistentQueue(Path dir, int recordsPerSegment, int syncEvery) throws IOException {
+        if (recordsPerSegment <= 0 || syncEvery <= 0) {
+            throw new IllegalArgumentException("recordsPerSegment and syncEvery must be positive");
+        }
+        if ((long) recordsPerSegment * Integer.BYTES + HEADER_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment too large to map");
+        }
+        this.dir = Files.createDirectories(dir);
+        this.recordsPerSegment = recordsPerSegment;
+        this.segmentBytes = HEADER_BYTES + recordsPerSegment * Integer.BYTES;
+        this.syncEvery = syncEvery;
+
+        this.checkpointChannel = FileChannel.open(dir.resolve("checkpoint.dat"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.checkpoint = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+
+        recover();
+    }
+
+    public PersistentQueue(Path dir) throws IOException {
+        this(dir, 1 << 20, 4096);
+    }
+
+    /**
+     * Rebuild the cursors from the files on disk
+     */
+    private void recover() throws IOException {
+        long first = Long.MAX_VALUE;
+        long last = -1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long number = Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                        name.length() - SEGMENT_SUFFIX.length()));
+                first = Math.min(first, number);
+                last = Math.max(last, number);
+            }
+        }
+
+        if (last < 0) {
+            writer = new Segment(dir, 0, segmentBytes);
+            writePos = 0;
+        } else {
+            writer = new Segment(dir, last, segmentBytes);
+            long committed = Math.min(writer.buffer.getLong(0), recordsPerSegment);
+            writePos = last * recordsPerSegment + committed;
+            if (committed > 0) {
+                lastValue = writer.buffer.getInt(offset(writePos - 1));
+                hasLastValue = true;
+            } else if (last > first) {
+                Segment previous = new Segment(dir, last - 1, segmentBytes);
+                lastValue = previous.buffer.getInt(offset(writePos - 1));
+                hasLastValue = true;
+                previous.close();
+            }
+            if (committed == recordsPerSegment) {
+                rollWriter();
+            }
+        }
+
+        long firstPos = (last < 0 ? 0 : first) * recordsPerSegment;
+        readPos = Math.min(Math.max(checkpoint.getLong(0), firstPos), writePos);
+        checkpoint.putLong(0, readPos);
+    }
+
+    // ==================== QUEUE OPERATIONS ====================
+
+    /**
+     * Append element to rear of queue
+     * @param data Element to add
+     * Time Complexity: O(1), plus a force to disk every syncEvery calls
+     */
+    public void enqueue(int data) throws IOException {
+        ensureOpen();
+        writer.buffer.putInt(offset(writePos), data);
+        writePos++;
+        lastValue = data;
+        hasLastValue = true;
+
+        if (writePos % recordsPerSegment == 0) {
+            rollWriter();
+        } else if (++unsynced >= syncEvery) {
+            sync();
+        }
+    }
+
+    /**
+     * Remove and return front element
+     * @throws NoSuchElementException if queue is empty
+     * Time Complexity: O(1)
+     */
+    public int dequeue() throws IOException {
+        int data = front();
+        readPos++;
+        checkpoint.putLong(0, readPos);
+
+        if (readPos % recordsPerSegment == 0) {
+            // Segment fully consumed; the writer is always on a later segment here
+            Segment done = reader;
+            reader = null;
+            done.close();
+            // Persist the cursor first: if the segment vanished while an older checkpoint
+            // was on disk, recovery would skip its unacknowledged records instead of
+            // redelivering them
+            checkpoint.force();
+            Files.deleteIfExists(done.path);
+        }
+        return data;
+    }
+
+    /**
+     * View front element without removing
+     * @throws NoSuchElementException if queue is empty
+     */
+    public int front() throws IOException {
+        ensureOpen();
+        if (isEmpty()) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return readerSegment().buffer.getInt(offset(readPos));
+    }
+
+    /**
+     * View rear element
+     * @throws NoSuchElementException if queue is empty
+     */
+    public int rear() {
+        if (isEmpty() || !hasLastValue) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        return lastValue;
+    }
+
+    public boolean isEmpty() { return readPos == writePos; }
+    public long size() { return writePos - readPos; }
+
+    /**
+     * Force the tail segment's commit count and the reader checkpoint to disk
+     */
+    public void sync() throws IOException {
+        ensureOpen();
+        writer.buffer.putLong(0, writePos - writer.number * recordsPerSegment);
+        writer.buffer.force();
+        checkpoint.force();
+        unsynced = 0;
+    }
+
+    /**
+     * Discard all elements (deletes every fully skipped segment)
+     */
+    public void clear() throws IOException {
+        ensureOpen();
+        while (!isEmpty()) {
+            long segmentEnd = (readPos / recordsPerSegment + 1) * recordsPerSegment;
+            if (segmentEnd <= writePos) {
+                readPos = segmentEnd - 1; // jump to the last record of the segment
+                dequeue();                // consume it, deleting the segment
+            } else {
+                readPos = writePos;
+                checkpoint.putLong(0, readPos);
+            }
+        }
+        sync();
+    }
+
+    /**
+     * Sync and unmap everything; further operations throw IllegalStateException
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        sync();
+        closed = true;
+        if (reader != null && reader != writer) reader.close();
+        writer.close();
+        reader = writer = null;
+        checkpointChannel.close();
+        unmap(checkpoint);
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue is closed");
+        }
+    }
+
+    private int offset(long position) {
+        return HEADER_BYTES + (int) (position % recordsPerSegment) * Integer.BYTES;
+    }
+
+    /**
+     * Seal the full writer segment and start the next one
+     */
+    private void rollWriter() throws IOException {
+        Segment full = writer;
+        full.buffer.putLong(0, recordsPerSegment);
+        full.buffer.force();
+        writer = new Segment(dir, full.number + 1, segmentBytes);
+        writer.buffer.putLong(0, 0);
+        if (reader != full) {
+            full.close(); // the reader will map it again when it gets there
+        }
+        checkpoint.force();
+        unsynced = 0;
+    }
+
+    private Segment readerSegment() throws IOException {
+        long number = readPos / recordsPerSegment;
+        if (reader == null || reader.number != number) {
+            if (reader != null && reader != writer) reader.close();
+            reader = number == writer.number ? writer : new Segment(dir, number, segmentBytes);
+        }
+        return reader;
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Persistent Queue Demo ===\n");
+
+        Path dir = Files.createTempDirectory("pqueue");
+        int perSegment = 256 * 1024; // 1 MB segments
+        int total = 5_000_000;
+
+        long start = System.nanoTime();
+        try (PersistentQueue queue = new PersistentQueue(dir, perSegment, 64 * 1024)) {
+            for (int i = 0; i < total; i++) queue.enqueue(i);
+            System.out.printf("Enqueued %d ints in %.1f ms%n", total, (System.nanoTime() - start) / 1e6);
+            System.out.println("Front: " + queue.front() + ", Rear: " + queue.rear() + ", Size: " + queue.size());
+
+            for (int i = 0; i < total / 2; i++) {
+                if (queue.dequeue() != i) throw new IllegalStateException("Order violated at " + i);
+            }
+            System.out.println("Dequeued half, size: " + queue.size());
+        }
+        System.out.println("Segment files after restart-close: " + countSegments(dir));
+
+        // Restart: continue exactly where the reader stopped
+        start = System.nanoTime();
+        try (PersistentQueue queue = new PersistentQueue(dir, perSegment, 64 * 1024)) {
+            System.out.println("\nReopened, size: " + queue.size() + ", front: " + queue.front());
+            int expected = total / 2;
+            while (!queue.isEmpty()) {
+                if (queue.dequeue() != expected++) throw new IllegalStateException("Order violated after restart");
+            }
+            System.out.printf("Drained remaining in %.1f ms, all in order%n", (System.nanoTime() - start) / 1e6);
+            System.out.println("Segment files left: " + countSegments(dir));
+            Path maps = Path.of("/proc/self/maps");
+            if (Files.isReadable(maps)) {
+                long stale = Files.readAllLines(maps).stream()
+                        .filter(line -> line.contains(dir.toString()) && line.endsWith("(deleted)")).count();
+                System.out.println("Deleted segments still mapped: " + stale);
+            }
+
+            queue.enqueue(42);
+            System.out.println("Front/rear after new enqueue: " + queue.front() + "/" + queue.rear());
+            queue.clear();
+            System.out.println("Is empty after clear: " + queue.isEmpty());
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) Files.delete(file);
+        }
+        Files.delete(dir);
+
+        System.out.println("\n=== Persistent Queue Demo Complete ===");
+    }
+
+    private static int countSegments(Path dir) throws IOException {
+        int count = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*")) {
+            for (Path ignored : files) count++;
+        }
+        return count;
+    }
+}
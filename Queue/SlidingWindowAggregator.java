@@ -0,0 +1,180 @@
+package Queue;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming Sliding-Window Min / Max / Sum
+ *
+ * Maintains aggregates over either the last W events (count window) or the
+ * events of the last T milliseconds (time window) of a metric stream.
+ *
+ * Technique: monotonic deques (all backed by LongArrayDeque, no allocation per event)
+ * - values / times : every event currently in the window, oldest first
+ * - minSeq         : sequence numbers whose values are strictly increasing front to rear.
+ *                    A new value pops every rear entry >= itself, since those can
+ *                    never be the minimum again while the new value is in the window
+ * - maxSeq         : the mirror image for the maximum
+ * - sum            : running sum, adjusted on add and evict
+ *
+ * Each event is pushed and popped at most once per deque, so every operation
+ * is amortized O(1) regardless of the window size.
+ *
+ * Typical uses: rate limiting (count / sum over the last second),
+ * anomaly detection (value outside [min, max] of a trailing window).
+ *
+ * @author Interview Preparation
+ */
+public class SlidingWindowAggregator {
+
+    private final int maxCount;        // count window size, or Integer.MAX_VALUE
+    private final long spanMillis;     // time window size, or Long.MAX_VALUE
+
+    private final LongArrayDeque values = new LongArrayDeque();
+    private final LongArrayDeque times = new LongArrayDeque();
+    private final LongArrayDeque minSeq = new LongArrayDeque();
+    private final LongArrayDeque maxSeq = new LongArrayDeque();
+    private long firstSeq;             // sequence number of values.peekFront()
+    private long nextSeq;              // sequence number of the next event
+    private long sum;
+
+    private SlidingWindowAggregator(int maxCount, long spanMillis) {
+        this.maxCount = maxCount;
+        this.spanMillis = spanMillis;
+    }
+
+    /**
+     * Window over the last w events
+     */
+    public static SlidingWindowAggregator countWindow(int w) {
+        if (w <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        return new SlidingWindowAggregator(w, Long.MAX_VALUE);
+    }
+
+    /**
+     * Window over events with timestamp in (now - millis, now]
+     */
+    public static SlidingWindowAggregator timeWindow(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Window span must be positive");
+        }
+        return new SlidingWindowAggregator(Integer.MAX_VALUE, millis);
+    }
+
+    // ==================== STREAM OPERATIONS ====================
+
+    /**
+     * Add one event. Timestamps must be non-decreasing.
+     * @param timestampMillis Event time (ignored by count windows except for ordering)
+     * @param value Event value
+     * Time Complexity: O(1) amortized
+     */
+    public void add(long timestampMillis, long value) {
+        if (!times.isEmpty() && timestampMillis < times.peekRear()) {
+            throw new IllegalArgumentException("Timestamps must be non-decreasing");
+        }
+
+        long seq = nextSeq++;
+        values.addRear(value);
+        times.addRear(timestampMillis);
+        sum += value;
+
+        while (!minSeq.isEmpty() && valueAt(minSeq.peekRear()) >= value) minSeq.removeRear();
+        minSeq.addRear(seq);
+        while (!maxSeq.isEmpty() && valueAt(maxSeq.peekRear()) <= value) maxSeq.removeRear();
+        maxSeq.addRear(seq);
+
+        while (values.size() > maxCount) evictOne();
+        advanceTo(timestampMillis);
+    }
+
+    /**
+     * Expire events older than the time window at nowMillis, for time windows
+     * that have seen no new event for a while
+     * Time Complexity: O(1) amortized
+     */
+    public void advanceTo(long nowMillis) {
+        if (spanMillis == Long.MAX_VALUE) return;
+        long cutoff = nowMillis - spanMillis;
+        while (!times.isEmpty() && times.peekFront() <= cutoff) evictOne();
+    }
+
+    // ==================== AGGREGATES (all O(1)) ====================
+
+    public long min() {
+        if (isEmpty()) throw new NoSuchElementException("Window is empty");
+        return valueAt(minSeq.peekFront());
+    }
+
+    public long max() {
+        if (isEmpty()) throw new NoSuchElementException("Window is empty");
+        return valueAt(maxSeq.peekFront());
+    }
+
+    public long sum() { return sum; }
+    public int count() { return values.size(); }
+    public boolean isEmpty() { return values.isEmpty(); }
+
+    public double average() {
+        if (isEmpty()) throw new NoSuchElementException("Window is empty");
+        return (double) sum / values.size();
+    }
+
+    // ==================== HELPER METHODS ====================
+
+    private long valueAt(long seq) {
+        return values.get((int) (seq - firstSeq));
+    }
+
+    private void evictOne() {
+        sum -= values.removeFront();
+        times.removeFront();
+        if (minSeq.peekFront() == firstSeq) minSeq.removeFront();
+        if (maxSeq.peekFront() == firstSeq) maxSeq.removeFront();
+        firstSeq++;
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) {
+        System.out.println("=== Sliding Window Aggregator Demo ===\n");
+
+        // Count window: last 3 events
+        SlidingWindowAggregator last3 = countWindow(3);
+        long[] stream = {4, 2, 12, 11, -5, 7, 7, 1};
+        System.out.println("--- Count window (W = 3) ---");
+        for (int i = 0; i < stream.length; i++) {
+            last3.add(i, stream[i]);
+            System.out.printf("add %3d -> min %3d, max %3d, sum %3d%n",
+                    stream[i], last3.min(), last3.max(), last3.sum());
+        }
+
+        // Time window: last 1000 ms, used as a rate limiter
+        System.out.println("\n--- Time window (T = 1000 ms), limit 3 requests ---");
+        SlidingWindowAggregator lastSecond = timeWindow(1000);
+        long[] requestTimes = {0, 100, 200, 300, 1050, 1150, 2500};
+        for (long t : requestTimes) {
+            lastSecond.advanceTo(t);
+            boolean allowed = lastSecond.count() < 3;
+            if (allowed) lastSecond.add(t, 1);
+            System.out.println("t=" + t + "ms allowed: " + allowed + " (in window: " + lastSecond.count() + ")");
+        }
+
+        // Throughput over a large random stream
+        SlidingWindowAggregator big = countWindow(10_000);
+        java.util.Random random = new java.util.Random(7);
+        int events = 20_000_000;
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            big.add(i, random.nextInt(1_000_000));
+            checksum += big.max() - big.min();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%nProcessed %d events at %.1f M events/s (checksum %d)%n",
+                events, events / seconds / 1e6, checksum);
+
+        System.out.println("\n=== Sliding Window Aggregator Demo Complete ===");
+    }
+}
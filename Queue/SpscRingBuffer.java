@@ -0,0 +1,282 @@
+package Queue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Lock-free Single-Producer / Single-Consumer Ring Buffer
+ *
+ * Concurrent variant of Queue.ArrayQueue for handing ints from exactly one
+ * producer thread to exactly one consumer thread without any lock.
+ *
+ * Differences from ArrayQueue:
+ * - Capacity is rounded up to a power of two, so (index & mask) replaces (index % capacity)
+ * - head and tail are ever-increasing long counters; size = tail - head
+ * - The producer only writes tail, the consumer only writes head
+ * - Each index is published with lazySet (a release store) and read as a
+ *   volatile (acquire) load, so no CAS and no lock is ever needed
+ * - Producer and consumer fields live on separate cache lines (padding classes),
+ *   so the two threads do not invalidate each other's line (false sharing)
+ * - Each side caches the last seen value of the other side's index and only
+ *   re-reads it when the cached value says "full" / "empty"
+ *
+ * Thread safety: exactly ONE thread may call offer methods and exactly ONE
+ * (other) thread may call poll/drain methods.
+ *
+ * Time Complexities:
+ * - offer / poll: O(1)
+ * - offer(int[]) / drainTo(int[]): O(batch), one index publication per batch
+ *
+ * @author Interview Preparation
+ */
+public final class SpscRingBuffer extends SpscConsumerPadding {
+
+    private static final AtomicLongFieldUpdater<SpscProducerFields> TAIL =
+            AtomicLongFieldUpdater.newUpdater(SpscProducerFields.class, "tail");
+    private static final AtomicLongFieldUpdater<SpscConsumerFields> HEAD =
+            AtomicLongFieldUpdater.newUpdater(SpscConsumerFields.class, "head");
+
+    private final int[] buffer;
+    private final int mask;
+
+    /**
+     * Constructor
+     * @param requestedCapacity Minimum capacity, rounded up to a power of two
+     */
+    public SpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be in [1, 2^30]: " + requestedCapacity);
+        }
+        int capacity = 1 << (32 - Integer.numberOfLeadingZeros(requestedCapacity - 1));
+        this.buffer = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // ==================== PRODUCER SIDE ====================
+
+    /**
+     * Add element to the rear (producer thread only)
+     * @param data Element to add
+     * @return false if the buffer is full
+     * Time Complexity: O(1)
+     */
+    public boolean offer(int data) {
+        long t = tail;
+        if (t - headCache >= buffer.length) {
+            headCache = head;
+            if (t - headCache >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = data;
+        TAIL.lazySet(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Add as many elements as fit (producer thread only)
+     * @param src Source array
+     * @param from First index in src
+     * @param length Number of elements to offer
+     * @return Number of elements actually added
+     * Time Complexity: O(length)
+     */
+    public int offer(int[] src, int from, int length) {
+        long t = tail;
+        long free = buffer.length - (t - headCache);
+        if (free < length) {
+            headCache = head;
+            free = buffer.length - (t - headCache);
+        }
+        int n = (int) Math.min(free, length);
+        if (n <= 0) {
+            return 0;
+        }
+        copyIn(src, from, (int) t & mask, n);
+        TAIL.lazySet(this, t + n);
+        return n;
+    }
+
+    public int offer(int[] src) {
+        return offer(src, 0, src.length);
+    }
+
+    // ==================== CONSUMER SIDE ====================
+
+    /**
+     * Remove and return front element (consumer thread only)
+     * @return Front element
+     * @throws NoSuchElementException if the buffer is empty
+     * Time Complexity: O(1)
+     */
+    public int poll() {
+        long h = head;
+        if (h >= tailCache) {
+            tailCache = tail;
+            if (h >= tailCache) {
+                throw new NoSuchElementException("Queue is empty");
+            }
+        }
+        int data = buffer[(int) h & mask];
+        HEAD.lazySet(this, h + 1);
+        return data;
+    }
+
+    /**
+     * Remove up to maxElements elements into dst (consumer thread only)
+     * @param dst Destination array
+     * @param from First index in dst
+     * @param maxElements Maximum number of elements to drain
+     * @return Number of elements drained (0 if empty)
+     * Time Complexity: O(drained)
+     */
+    public int drainTo(int[] dst, int from, int maxElements) {
+        long h = head;
+        long available = tailCache - h;
+        if (available < maxElements) {
+            tailCache = tail;
+            available = tailCache - h;
+        }
+        int n = (int) Math.min(available, maxElements);
+        if (n <= 0) {
+            return 0;
+        }
+        copyOut(dst, from, (int) h & mask, n);
+        HEAD.lazySet(this, h + n);
+        return n;
+    }
+
+    public int drainTo(int[] dst) {
+        return drainTo(dst, 0, dst.length);
+    }
+
+    // ==================== UTILITY METHODS ====================
+
+    /**
+     * Approximate size; exact when called from a quiescent state
+     */
+    public int size() {
+        long h = head;
+        long t = tail;
+        return (int) Math.max(0, Math.min(t - h, buffer.length));
+    }
+
+    public boolean isEmpty() { return head >= tail; }
+    public int capacity() { return buffer.length; }
+
+    private void copyIn(int[] src, int from, int index, int n) {
+        int firstPart = Math.min(n, buffer.length - index);
+        System.arraycopy(src, from, buffer, index, firstPart);
+        System.arraycopy(src, from + firstPart, buffer, 0, n - firstPart);
+    }
+
+    private void copyOut(int[] dst, int from, int index, int n) {
+        int firstPart = Math.min(n, buffer.length - index);
+        System.arraycopy(buffer, index, dst, from, firstPart);
+        System.arraycopy(buffer, 0, dst, from + firstPart, n - firstPart);
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    /**
+     * Main method: correctness check plus a two-thread throughput run
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== SPSC Ring Buffer Demo ===\n");
+
+        SpscRingBuffer ring = new SpscRingBuffer(5);
+        System.out.println("Requested capacity 5, actual: " + ring.capacity());
+        for (int i = 1; i <= 10; i++) {
+            if (!ring.offer(i * 10)) {
+                System.out.println("Full after " + (i - 1) + " offers");
+                break;
+            }
+        }
+        System.out.println("Poll: " + ring.poll());
+        int[] drained = new int[16];
+        int n = ring.drainTo(drained);
+        System.out.print("Drained " + n + ": ");
+        for (int i = 0; i < n; i++) System.out.print(drained[i] + " ");
+        System.out.println("\nIs empty: " + ring.isEmpty());
+
+        // Throughput: one producer thread, one consumer thread, batched handoff
+        final long total = 50_000_000L;
+        final int batch = 256;
+        SpscRingBuffer shared = new SpscRingBuffer(64 * 1024);
+
+        Thread producer = new Thread(() -> {
+            int[] out = new int[batch];
+            long sent = 0;
+            while (sent < total) {
+                int len = (int) Math.min(batch, total - sent);
+                for (int i = 0; i < len; i++) out[i] = (int) (sent + i);
+                int off = 0;
+                while (off < len) {
+                    int added = shared.offer(out, off, len - off);
+                    if (added == 0) Thread.yield();
+                    off += added;
+                }
+                sent += len;
+            }
+        }, "producer");
+
+        long[] checksum = new long[1];
+        Thread consumer = new Thread(() -> {
+            int[] in = new int[batch];
+            long received = 0;
+            long expected = 0;
+            boolean ordered = true;
+            while (received < total) {
+                int got = shared.drainTo(in);
+                if (got == 0) {
+                    Thread.yield();
+                    continue;
+                }
+                for (int i = 0; i < got; i++) {
+                    if (in[i] != (int) expected++) ordered = false;
+                }
+                received += got;
+            }
+            checksum[0] = ordered ? received : -1;
+        }, "consumer");
+
+        long start = System.nanoTime();
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("\n--- Throughput (batch " + batch + ") ---");
+        System.out.println("Transferred: " + checksum[0] + " (in order: " + (checksum[0] == total) + ")");
+        System.out.printf("Throughput: %.1f M ops/s%n", total / seconds / 1e6);
+
+        System.out.println("\n=== SPSC Ring Buffer Demo Complete ===");
+    }
+}
+
+// ======================= CACHE LINE PADDING =======================
+// Fields of a superclass are laid out before those of a subclass, so this
+// chain keeps producer and consumer fields at least 64 bytes apart.
+
+abstract class SpscLeftPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SpscProducerFields extends SpscLeftPadding {
+    volatile long tail;   // written by producer only
+    long headCache;       // producer's last seen head
+}
+
+abstract class SpscMiddlePadding extends SpscProducerFields {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class SpscConsumerFields extends SpscMiddlePadding {
+    volatile long head;   // written by consumer only
+    long tailCache;       // consumer's last seen tail
+}
+
+abstract class SpscConsumerPadding extends SpscConsumerFields {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
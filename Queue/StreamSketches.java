@@ -0,0 +1,514 @@
+package Queue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded-Memory Stream Statistics (Sketches)
+ *
+ * Queue.firstNonRepeatingCharacter keeps an exact count per character, which is
+ * fine for 256 symbols but not for an unbounded vocabulary of tokens. These
+ * sketches answer frequency, heavy-hitter and distinct-count questions over huge
+ * token streams in fixed memory, with bounded error.
+ *
+ * 1. CountMinSketch  - frequency estimates (never under-estimates), conservative update
+ * 2. SpaceSaving     - top-K heavy hitters with per-item error bounds
+ * 3. HyperLogLog     - distinct count, about 1.04 / sqrt(2^p) relative error
+ *
+ * All three are mergeable: give every thread or shard its own sketch (they are
+ * not thread-safe) and merge() them afterwards. Each has a compact binary form via
+ * toBytes() / fromBytes() so shards can ship sketches over the network.
+ *
+ * @author Interview Preparation
+ */
+public class StreamSketches {
+
+    // ======================= HASHING =======================
+
+    /**
+     * 64-bit hash of a token: FNV-1a over the chars, then the MurmurHash3
+     * finalizer so every output bit depends on every input bit
+     */
+    public static long hash64(CharSequence token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix64(h);
+    }
+
+    /**
+     * MurmurHash3 fmix64: spreads the bits of an already-distinct long (e.g. a code point)
+     */
+    public static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // ======================= COUNT-MIN SKETCH =======================
+
+    /**
+     * Count-Min Sketch with conservative update
+     *
+     * depth rows of width counters. An item maps to one counter per row; its
+     * estimate is the minimum of those counters. Conservative update only raises
+     * counters that are below (estimate + count), which sharply reduces
+     * over-estimation for skewed streams.
+     *
+     * Error: estimate <= true + (e / width) * total with probability 1 - e^-depth.
+     * Merging adds counters, which keeps that guarantee.
+     *
+     * Time Complexity: add / estimate O(depth). Space: O(depth * width)
+     */
+    public static class CountMinSketch {
+        private static final int MAGIC = 0x434D5331; // "CMS1"
+
+        private final int depth;
+        private final int width;         // power of two
+        private final long[] counters;   // row-major depth x width
+        private long total;
+
+        public CountMinSketch(int depth, int width) {
+            if (depth <= 0 || width <= 0 || Integer.bitCount(width) != 1) {
+                throw new IllegalArgumentException("depth must be positive and width a power of two");
+            }
+            this.depth = depth;
+            this.width = width;
+            this.counters = new long[depth * width];
+        }
+
+        /**
+         * Size the sketch for error epsilon (fraction of total) with confidence 1 - delta
+         */
+        public static CountMinSketch withError(double epsilon, double delta) {
+            int width = Integer.highestOneBit((int) Math.ceil(Math.E / epsilon) - 1) << 1;
+            int depth = (int) Math.ceil(Math.log(1 / delta));
+            return new CountMinSketch(depth, width);
+        }
+
+        public void add(CharSequence token) { add(hash64(token), 1); }
+
+        /**
+         * Add count occurrences of the item with the given 64-bit hash
+         */
+        public void add(long hash, long count) {
+            if (count < 0) throw new IllegalArgumentException("Count must be non-negative");
+            long target = estimate(hash) + count;
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int row = 0; row < depth; row++) {
+                int index = row * width + ((h1 + row * h2) & (width - 1));
+                if (counters[index] < target) counters[index] = target;
+            }
+            total += count;
+        }
+
+        public long estimate(CharSequence token) { return estimate(hash64(token)); }
+
+        public long estimate(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1; // odd, so rows probe different columns
+            long min = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                min = Math.min(min, counters[row * width + ((h1 + row * h2) & (width - 1))]);
+            }
+            return min;
+        }
+
+        public long total() { return total; }
+
+        /**
+         * Add another sketch of the same shape into this one
+         */
+        public void merge(CountMinSketch other) {
+            if (other.depth != depth || other.width != width) {
+                throw new IllegalArgumentException("Cannot merge sketches of different shapes");
+            }
+            for (int i = 0; i < counters.length; i++) counters[i] += other.counters[i];
+            total += other.total;
+        }
+
+        public byte[] toBytes() {
+            ByteBuffer buffer = ByteBuffer.allocate(4 + 4 + 4 + 8 + counters.length * 8);
+            buffer.putInt(MAGIC).putInt(depth).putInt(width).putLong(total);
+            buffer.asLongBuffer().put(counters);
+            return buffer.array();
+        }
+
+        public static CountMinSketch fromBytes(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            checkMagic(buffer.getInt(), MAGIC);
+            CountMinSketch sketch = new CountMinSketch(buffer.getInt(), buffer.getInt());
+            sketch.total = buffer.getLong();
+            buffer.asLongBuffer().get(sketch.counters);
+            return sketch;
+        }
+    }
+
+    // ======================= SPACE-SAVING (TOP-K) =======================
+
+    /**
+     * Space-Saving heavy hitters (Metwally, Agrawal, El Abbadi)
+     *
+     * Keeps at most capacity monitored items in a min-heap by count. An
+     * unmonitored item replaces the current minimum and inherits its count as
+     * its error. Every item with true frequency > total / capacity is guaranteed
+     * to be monitored, and count - error <= true count <= count.
+     *
+     * Merging follows Agarwal et al. "Mergeable Summaries": an item missing from
+     * one side is charged that side's minimum count, then the top capacity items are kept.
+     *
+     * Time Complexity: add O(log capacity). Space: O(capacity)
+     */
+    public static class SpaceSaving {
+        private static final int MAGIC = 0x53535331; // "SSS1"
+
+        private final int capacity;
+        private final String[] items;      // min-heap ordered by counts
+        private final long[] counts;
+        private final long[] errors;
+        private final Map<String, Integer> positions;
+        private int size;
+        private long total;
+
+        public SpaceSaving(int capacity) {
+            if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+            this.capacity = capacity;
+            this.items = new String[capacity];
+            this.counts = new long[capacity];
+            this.errors = new long[capacity];
+            this.positions = new HashMap<>(capacity * 2);
+        }
+
+        public void add(String item) { add(item, 1); }
+
+        public void add(String item, long count) {
+            total += count;
+            Integer position = positions.get(item);
+            if (position != null) {
+                counts[position] += count;
+                siftDown(position);
+            } else if (size < capacity) {
+                items[size] = item;
+                counts[size] = count;
+                errors[size] = 0;
+                positions.put(item, size);
+                siftUp(size++);
+            } else {
+                // Replace the minimum; the new item inherits its count as error
+                positions.remove(items[0]);
+                items[0] = item;
+                errors[0] = counts[0];
+                counts[0] += count;
+                positions.put(item, 0);
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Upper bound on the item's frequency (0 if never monitored and not full)
+         */
+        public long estimate(String item) {
+            Integer position = positions.get(item);
+            if (position != null) return counts[position];
+            return size < capacity ? 0 : counts[0];
+        }
+
+        /**
+         * The k most frequent monitored items, most frequent first
+         */
+        public String[] topK(int k) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Long.compare(counts[b], counts[a]));
+            String[] result = new String[Math.min(k, size)];
+            for (int i = 0; i < result.length; i++) result[i] = items[order[i]];
+            return result;
+        }
+
+        /**
+         * Guaranteed lower bound on the item's frequency
+         */
+        public long guaranteed(String item) {
+            Integer position = positions.get(item);
+            return position == null ? 0 : counts[position] - errors[position];
+        }
+
+        public long total() { return total; }
+
+        /**
+         * Merge another summary into this one
+         */
+        public void merge(SpaceSaving other) {
+            long minThis = size < capacity ? 0 : counts[0];
+            long minOther = other.size < other.capacity ? 0 : other.counts[0];
+
+            Map<String, long[]> combined = new HashMap<>((size + other.size) * 2);
+            for (int i = 0; i < size; i++) {
+                combined.put(items[i], new long[] {counts[i] + minOther, errors[i] + minOther});
+            }
+            for (int i = 0; i < other.size; i++) {
+                long[] entry = combined.get(other.items[i]);
+                if (entry == null) {
+                    combined.put(other.items[i], new long[] {other.counts[i] + minThis, other.errors[i] + minThis});
+                } else {
+                    entry[0] += other.counts[i] - minOther;
+                    entry[1] += other.errors[i] - minOther;
+                }
+            }
+
+            String[] keys = combined.keySet().toArray(new String[0]);
+            Arrays.sort(keys, (a, b) -> Long.compare(combined.get(b)[0], combined.get(a)[0]));
+            positions.clear();
+            size = 0;
+            for (int i = 0; i < Math.min(capacity, keys.length); i++) {
+                long[] entry = combined.get(keys[i]);
+                items[size] = keys[i];
+                counts[size] = entry[0];
+                errors[size] = entry[1];
+                positions.put(keys[i], size);
+                siftUp(size++);
+            }
+            total += other.total;
+        }
+
+        public byte[] toBytes() {
+            byte[][] encoded = new byte[size][];
+            int bytes = 4 + 4 + 4 + 8;
+            for (int i = 0; i < size; i++) {
+                encoded[i] = items[i].getBytes(java.nio.charset.StandardCharsets.UTF_8);
+                bytes += 4 + encoded[i].length + 16;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(bytes);
+            buffer.putInt(MAGIC).putInt(capacity).putInt(size).putLong(total);
+            for (int i = 0; i < size; i++) {
+                buffer.putInt(encoded[i].length).put(encoded[i]).putLong(counts[i]).putLong(errors[i]);
+            }
+            return buffer.array();
+        }
+
+        public static SpaceSaving fromBytes(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            checkMagic(buffer.getInt(), MAGIC);
+            SpaceSaving summary = new SpaceSaving(buffer.getInt());
+            int size = buffer.getInt();
+            summary.total = buffer.getLong();
+            for (int i = 0; i < size; i++) {
+                byte[] encoded = new byte[buffer.getInt()];
+                buffer.get(encoded);
+                // Entries were written in heap order, so the heap property still holds
+                summary.items[i] = new String(encoded, java.nio.charset.StandardCharsets.UTF_8);
+                summary.counts[i] = buffer.getLong();
+                summary.errors[i] = buffer.getLong();
+                summary.positions.put(summary.items[i], i);
+            }
+            summary.size = size;
+            return summary;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (counts[parent] <= counts[index]) break;
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && counts[left] < counts[smallest]) smallest = left;
+                if (right < size && counts[right] < counts[smallest]) smallest = right;
+                if (smallest == index) return;
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            String item = items[i]; items[i] = items[j]; items[j] = item;
+            long count = counts[i]; counts[i] = counts[j]; counts[j] = count;
+            long error = errors[i]; errors[i] = errors[j]; errors[j] = error;
+            positions.put(items[i], i);
+            positions.put(items[j], j);
+        }
+    }
+
+    // ======================= HYPERLOGLOG =======================
+
+    /**
+     * HyperLogLog with 64-bit hashes (as in HyperLogLog++, Heule, Nunkesser, Hall 2013),
+     * so no large-range correction is needed.
+     *
+     * Small range: linear counting while the raw estimate is at most 2.5m (the
+     * original Flajolet et al. rule). The larger HyperLogLog++ cutoffs are only safe
+     * together with its empirical bias tables for the raw estimate, which are not
+     * included here; without them the raw estimate overshoots badly just above 2.5m.
+     *
+     * 2^p one-byte registers; register j keeps the maximum "position of the first
+     * 1-bit" seen among hashes whose top p bits are j. Merge = register-wise max.
+     *
+     * Time Complexity: add O(1), estimate O(2^p). Space: 2^p bytes
+     */
+    public static class HyperLogLog {
+        private static final int MAGIC = 0x484C4C31; // "HLL1"
+
+        private final int p;
+        private final byte[] registers;
+
+        public HyperLogLog(int precision) {
+            if (precision < 4 || precision > 18) {
+                throw new IllegalArgumentException("Precision must be in [4, 18]");
+            }
+            this.p = precision;
+            this.registers = new byte[1 << precision];
+        }
+
+        public void add(CharSequence token) { addHash(hash64(token)); }
+
+        public void addHash(long hash) {
+            int index = (int) (hash >>> (64 - p));
+            // Sentinel bit guarantees rank <= 64 - p + 1
+            long rest = (hash << p) | (1L << (p - 1));
+            byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+            if (rank > registers[index]) registers[index] = rank;
+        }
+
+        public long estimate() {
+            int m = registers.length;
+            double sum = 0;
+            int zeros = 0;
+            for (byte register : registers) {
+                sum += Double.longBitsToDouble((1023L - register) << 52); // 2^-register
+                if (register == 0) zeros++;
+            }
+            double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1 + 1.079 / m);
+            double raw = alpha * m * (double) m / sum;
+
+            if (raw <= 2.5 * m && zeros > 0) {
+                return Math.round(m * Math.log((double) m / zeros)); // linear counting
+            }
+            return Math.round(raw);
+        }
+
+        public void merge(HyperLogLog other) {
+            if (other.p != p) throw new IllegalArgumentException("Cannot merge different precisions");
+            for (int i = 0; i < registers.length; i++) {
+                if (other.registers[i] > registers[i]) registers[i] = other.registers[i];
+            }
+        }
+
+        public byte[] toBytes() {
+            ByteBuffer buffer = ByteBuffer.allocate(4 + 4 + registers.length);
+            buffer.putInt(MAGIC).putInt(p).put(registers);
+            return buffer.array();
+        }
+
+        public static HyperLogLog fromBytes(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            checkMagic(buffer.getInt(), MAGIC);
+            HyperLogLog hll = new HyperLogLog(buffer.getInt());
+            buffer.get(hll.registers);
+            return hll;
+        }
+    }
+
+    private static void checkMagic(int actual, int expected) {
+        if (actual != expected) {
+            throw new IllegalArgumentException("Not a serialized sketch of this type");
+        }
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Stream Sketches Demo ===\n");
+
+        // Zipf-like token stream split over 4 shards, one thread per shard
+        int shards = 4;
+        int tokensPerShard = 500_000;
+        int vocabulary = 200_000;
+        CountMinSketch[] cms = new CountMinSketch[shards];
+        SpaceSaving[] topK = new SpaceSaving[shards];
+        HyperLogLog[] hll = new HyperLogLog[shards];
+        List<Map<String, Integer>> exact = new ArrayList<>();
+        Thread[] threads = new Thread[shards];
+
+        for (int s = 0; s < shards; s++) {
+            final int shard = s;
+            cms[s] = CountMinSketch.withError(0.0005, 0.001);
+            topK[s] = new SpaceSaving(100);
+            hll[s] = new HyperLogLog(14);
+            exact.add(new HashMap<>());
+            threads[s] = new Thread(() -> {
+                java.util.Random random = new java.util.Random(shard);
+                for (int i = 0; i < tokensPerShard; i++) {
+                    // Skewed: low ranks are far more frequent
+                    int rank = (int) Math.floor(Math.pow(vocabulary, random.nextDouble())) - 1;
+                    String token = "tok" + rank;
+                    cms[shard].add(token);
+                    topK[shard].add(token);
+                    hll[shard].add(token);
+                    exact.get(shard).merge(token, 1, Integer::sum);
+                }
+            });
+            threads[s].start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        // Merge shards (through the binary form, as a remote shard would)
+        CountMinSketch mergedCms = CountMinSketch.fromBytes(cms[0].toBytes());
+        SpaceSaving mergedTopK = SpaceSaving.fromBytes(topK[0].toBytes());
+        HyperLogLog mergedHll = HyperLogLog.fromBytes(hll[0].toBytes());
+        Map<String, Integer> truth = new HashMap<>(exact.get(0));
+        for (int s = 1; s < shards; s++) {
+            mergedCms.merge(CountMinSketch.fromBytes(cms[s].toBytes()));
+            mergedTopK.merge(SpaceSaving.fromBytes(topK[s].toBytes()));
+            mergedHll.merge(HyperLogLog.fromBytes(hll[s].toBytes()));
+            exact.get(s).forEach((k, v) -> truth.merge(k, v, Integer::sum));
+        }
+
+        System.out.println("Total tokens: " + mergedCms.total());
+        System.out.println("Distinct: exact " + truth.size() + ", HyperLogLog " + mergedHll.estimate()
+                + " (" + mergedHll.toBytes().length + " bytes)");
+        System.out.println("\nTop 5 (Space-Saving) vs exact and Count-Min:");
+        for (String token : mergedTopK.topK(5)) {
+            System.out.printf("  %-8s exact %6d  space-saving %6d (>= %6d)  count-min %6d%n", token,
+                    truth.get(token), mergedTopK.estimate(token), mergedTopK.guaranteed(token),
+                    mergedCms.estimate(token));
+        }
+        System.out.println("Count-Min size: " + mergedCms.toBytes().length + " bytes");
+
+        // HyperLogLog accuracy across the small/large range switch (p = 14, 20 trials)
+        int precision = 14;
+        int m = 1 << precision;
+        int trials = 20;
+        System.out.println("\nHyperLogLog p=" + precision + " mean estimate/n over " + trials + " trials:");
+        double[] multiples = {0.5, 1, 2, 2.5, 3, 4, 5, 7.5, 10};
+        java.util.SplittableRandom random = new java.util.SplittableRandom(14);
+        for (double multiple : multiples) {
+            int n = (int) (multiple * m);
+            double ratio = 0;
+            for (int t = 0; t < trials; t++) {
+                HyperLogLog sketch = new HyperLogLog(precision);
+                for (int i = 0; i < n; i++) sketch.addHash(random.nextLong());
+                ratio += (double) sketch.estimate() / n;
+            }
+            System.out.printf("  n = %4.1fm (%6d): %.3f%n", multiple, n, ratio / trials);
+        }
+
+        System.out.println("\n=== Stream Sketches Demo Complete ===");
+    }
+}
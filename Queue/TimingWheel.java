@@ -0,0 +1,383 @@
+package Queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hierarchical Timing Wheel Scheduler
+ *
+ * Alternative to keeping timeouts in a heap such as Queue.PriorityQueue,
+ * where every schedule and cancel costs O(log n). Here both are O(1), which
+ * matters when most timeouts are cancelled before they fire.
+ *
+ * Structure (like a clock with hour / minute / second hands):
+ * - levels wheels of wheelSize buckets each (wheelSize is a power of two)
+ * - level 0 bucket = 1 tick, level 1 bucket = wheelSize ticks, level i bucket = wheelSize^i ticks
+ * - A timeout due in d ticks goes to the lowest level whose range covers d
+ * - Every wheelSize ticks the next bucket of level 1 is "cascaded": its timeouts are
+ *   re-placed into level 0 (and so on upwards), so each timeout moves at most
+ *   levels times in its lifetime
+ * - Timeouts beyond the top level wait in an overflow bucket that is re-placed
+ *   whenever the top level completes a full turn
+ *
+ * Threading:
+ * - schedule() and cancel() are lock-free for callers: new timeouts go through a
+ *   concurrent queue and cancelled ones are flagged with a CAS
+ * - A single timer thread owns the wheels; it places new timeouts, unlinks
+ *   cancelled ones (O(1), buckets are intrusive doubly linked lists) and
+ *   dispatches expired tasks to the executor in batches
+ *
+ * Time Complexities:
+ * - schedule / cancel: O(1)
+ * - per tick: O(expired + cascaded)
+ *
+ * @author Interview Preparation
+ */
+public class TimingWheel implements AutoCloseable {
+
+    // ======================= TIMEOUT HANDLE =======================
+
+    /**
+     * Handle returned by schedule(); can be cancelled
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadlineTick;
+        private volatile int state = PENDING;
+
+        // Owned by the timer thread
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancel the timeout
+         * @return true if it was cancelled, false if it already fired or was cancelled
+         * Time Complexity: O(1)
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            wheel.cancelled.offer(this);
+            return true;
+        }
+
+        public boolean isCancelled() { return state == CANCELLED; }
+        public boolean isExpired() { return state == EXPIRED; }
+    }
+
+    /**
+     * Intrusive doubly linked list of timeouts
+     */
+    private static final class Bucket {
+        Timeout head;
+        Timeout tail;
+
+        void add(Timeout t) {
+            t.bucket = this;
+            t.prev = tail;
+            t.next = null;
+            if (tail == null) head = t; else tail.next = t;
+            tail = t;
+        }
+
+        void remove(Timeout t) {
+            if (t.prev == null) head = t.next; else t.prev.next = t.next;
+            if (t.next == null) tail = t.prev; else t.next.prev = t.prev;
+            t.prev = t.next = null;
+            t.bucket = null;
+        }
+
+        /** Detach and return the whole list */
+        Timeout takeAll() {
+            Timeout first = head;
+            head = tail = null;
+            return first;
+        }
+    }
+
+    // ======================= WHEEL STATE =======================
+
+    private final long tickNanos;
+    private final int wheelBits;
+    private final int mask;
+    private final int levels;
+    private final Bucket[][] wheels;   // wheels[level][slot]
+    private final Bucket overflow = new Bucket();
+    private final Executor executor;
+    private final int dispatchBatchSize;
+
+    private final ConcurrentLinkedQueue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final LongAdder pendingCount = new LongAdder();
+
+    private final long startNanos;
+    private volatile boolean shutdown;
+    private final Thread timerThread;
+
+    /**
+     * Constructor
+     * @param tickDuration Resolution of the wheel
+     * @param unit Unit of tickDuration
+     * @param wheelSize Buckets per level, rounded up to a power of two
+     * @param levels Number of wheels in the hierarchy
+     * @param executor Runs expired tasks
+     * @param dispatchBatchSize Expired tasks handed to the executor per submission
+     */
+    public TimingWheel(long tickDuration, TimeUnit unit, int wheelSize, int levels,
+                       Executor executor, int dispatchBatchSize) {
+        if (tickDuration <= 0 || wheelSize < 2 || levels < 1 || dispatchBatchSize < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel configuration");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheelBits = 32 - Integer.numberOfLeadingZeros(wheelSize - 1);
+        if ((long) wheelBits * levels >= 62) {
+            throw new IllegalArgumentException("wheelSize^levels must fit in a long");
+        }
+        this.mask = (1 << wheelBits) - 1;
+        this.levels = levels;
+        this.wheels = new Bucket[levels][1 << wheelBits];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < wheel.length; i++) wheel[i] = new Bucket();
+        }
+        this.executor = executor;
+        this.dispatchBatchSize = dispatchBatchSize;
+
+        this.startNanos = System.nanoTime();
+        this.timerThread = new Thread(this::runTimer, "timing-wheel");
+        this.timerThread.setDaemon(true);
+        this.timerThread.start();
+    }
+
+    /**
+     * 1 ms ticks, 4 levels of 256 buckets (about 49 days before overflow)
+     */
+    public TimingWheel(Executor executor) {
+        this(1, TimeUnit.MILLISECONDS, 256, 4, executor, 256);
+    }
+
+    // ==================== PUBLIC OPERATIONS ====================
+
+    /**
+     * Schedule task to run after delay
+     * @return Handle that can cancel the timeout
+     * Time Complexity: O(1)
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (shutdown) {
+            throw new IllegalStateException("Timing wheel is shut down");
+        }
+        long elapsed = System.nanoTime() - startNanos + unit.toNanos(Math.max(0, delay));
+        // Round up so a timeout never fires early
+        long deadlineTick = (elapsed + tickNanos - 1) / tickNanos;
+        Timeout timeout = new Timeout(this, task, deadlineTick);
+        scheduled.offer(timeout);
+        pendingCount.increment();
+        return timeout;
+    }
+
+    /**
+     * Number of scheduled timeouts that have neither fired nor been cancelled (approximate)
+     */
+    public long pending() { return pendingCount.sum(); }
+
+    @Override
+    public void close() {
+        shutdown = true;
+        LockSupport.unpark(timerThread);
+    }
+
+    // ==================== TIMER THREAD ====================
+
+    private void runTimer() {
+        List<Runnable> expired = new ArrayList<>();
+        long tick = 0;
+        while (!shutdown) {
+            long now = System.nanoTime() - startNanos;
+            long dueTick = now / tickNanos;
+            if (dueTick <= tick) {
+                LockSupport.parkNanos((tick + 1) * tickNanos - now);
+                continue;
+            }
+            // Catch up on every tick that elapsed, so no bucket is skipped
+            while (tick < dueTick) {
+                tick++;
+                processTick(tick, expired);
+            }
+            dispatch(expired);
+        }
+    }
+
+    private void processTick(long tick, List<Runnable> expired) {
+        if ((tick & mask) == 0) {
+            cascade(tick);
+        }
+        removeCancelled();
+        placeScheduled(tick);
+
+        Timeout t = wheels[0][(int) tick & mask].takeAll();
+        while (t != null) {
+            Timeout next = t.next;
+            t.prev = t.next = null;
+            t.bucket = null;
+            if (Timeout.STATE.compareAndSet(t, Timeout.PENDING, Timeout.EXPIRED)) {
+                pendingCount.decrement();
+                expired.add(t.task);
+            }
+            t = next;
+        }
+    }
+
+    /**
+     * Move the bucket of each higher level that just came into range down a level
+     */
+    private void cascade(long tick) {
+        for (int level = 1; level < levels; level++) {
+            int shift = wheelBits * level;
+            replaceAll(wheels[level][(int) (tick >>> shift) & mask].takeAll(), tick);
+            if (((tick >>> shift) & mask) != 0) {
+                return; // higher levels only turn when this one wraps
+            }
+        }
+        replaceAll(overflow.takeAll(), tick);
+    }
+
+    private void replaceAll(Timeout t, long tick) {
+        while (t != null) {
+            Timeout next = t.next;
+            t.prev = t.next = null;
+            place(t, tick);
+            t = next;
+        }
+    }
+
+    private void placeScheduled(long tick) {
+        Timeout t;
+        while ((t = scheduled.poll()) != null) {
+            if (t.state == Timeout.PENDING) {
+                place(t, tick);
+            }
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout t;
+        while ((t = cancelled.poll()) != null) {
+            if (t.bucket != null) {
+                t.bucket.remove(t);
+            }
+            pendingCount.decrement();
+        }
+    }
+
+    /**
+     * Put a timeout into the lowest level whose range covers its delay
+     */
+    private void place(Timeout t, long tick) {
+        long deadline = Math.max(t.deadlineTick, tick); // overdue: fire this tick
+        long delta = deadline - tick;
+        for (int level = 0; level < levels; level++) {
+            int shift = wheelBits * level;
+            if (delta < (1L << (shift + wheelBits))) {
+                wheels[level][(int) (deadline >>> shift) & mask].add(t);
+                return;
+            }
+        }
+        overflow.add(t);
+    }
+
+    /**
+     * Hand expired tasks to the executor, dispatchBatchSize per submission
+     */
+    private void dispatch(List<Runnable> expired) {
+        int n = expired.size();
+        for (int from = 0; from < n; from += dispatchBatchSize) {
+            Runnable[] batch = expired.subList(from, Math.min(n, from + dispatchBatchSize)).toArray(new Runnable[0]);
+            executor.execute(() -> {
+                for (Runnable task : batch) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        Thread.currentThread().getUncaughtExceptionHandler()
+                                .uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            });
+        }
+        expired.clear();
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Hierarchical Timing Wheel Demo ===\n");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // Small wheel (8 buckets x 3 levels = 512 ticks) so cascading and overflow are exercised
+        try (TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 8, 3, executor, 64)) {
+            long origin = System.nanoTime();
+            CountDownLatch fired = new CountDownLatch(4);
+            long[] delays = {5, 30, 200, 700};
+            for (long delay : delays) {
+                wheel.schedule(() -> {
+                    long actual = (System.nanoTime() - origin) / 1_000_000;
+                    System.out.println("Timeout " + delay + "ms fired at ~" + actual + "ms");
+                    fired.countDown();
+                }, delay, TimeUnit.MILLISECONDS);
+            }
+            Timeout doomed = wheel.schedule(() -> System.out.println("SHOULD NOT FIRE"), 50, TimeUnit.MILLISECONDS);
+            System.out.println("Cancelled 50ms timeout: " + doomed.cancel());
+            fired.await();
+
+            // Mass schedule/cancel: 1M timeouts, 99% cancelled shortly after being scheduled
+            // (like request timeouts whose responses arrive in time)
+            int total = 1_000_000;
+            int inFlight = 1000;
+            AtomicInteger ran = new AtomicInteger();
+            Timeout[] handles = new Timeout[total];
+            long start = System.nanoTime();
+            for (int i = 0; i < total; i++) {
+                handles[i] = wheel.schedule(ran::incrementAndGet, 500 + (i % 100), TimeUnit.MILLISECONDS);
+                int done = i - inFlight;
+                if (done >= 0 && done % 100 != 0) handles[done].cancel();
+            }
+            for (int i = Math.max(0, total - inFlight); i < total; i++) {
+                if (i % 100 != 0) handles[i].cancel();
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            Thread.sleep(1000);
+
+            System.out.printf("%nScheduled %d and cancelled 99%% in %.1f ms (%.0f ns per schedule+cancel)%n",
+                    total, elapsedNanos / 1e6, (double) elapsedNanos / total);
+            System.out.println("Fired: " + ran.get() + " (expected " + total / 100 + "), pending: " + wheel.pending());
+        }
+        executor.shutdown();
+
+        System.out.println("\n=== Hierarchical Timing Wheel Demo Complete ===");
+    }
+}
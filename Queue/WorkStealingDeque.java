@@ -0,0 +1,214 @@
+package Queue;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Chase-Lev Work-Stealing Deque
+ *
+ * Per-worker task deque for a work-stealing scheduler. Compared to Queue.Deque
+ * (single-threaded, one DoublyNode per element) it is a growable circular array
+ * that one OWNER thread and any number of THIEF threads use concurrently.
+ *
+ * - Owner pushes and pops at the bottom (LIFO: best cache locality, and
+ *   no CAS unless the deque is down to its last element)
+ * - Thieves steal from the top (FIFO: oldest, usually biggest tasks) with one CAS
+ * - The array doubles when full; old arrays stay valid for in-flight thieves
+ *
+ * Reference: Chase and Lev, "Dynamic Circular Work-Stealing Deque" (SPAA 2005),
+ * with the memory-ordering fixes from Le et al. (PPoPP 2013).
+ *
+ * Time Complexities:
+ * - push: O(1) amortized
+ * - pop / steal: O(1)
+ *
+ * @author Interview Preparation
+ */
+public class WorkStealingDeque<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<WorkStealingDeque> TOP =
+            AtomicLongFieldUpdater.newUpdater(WorkStealingDeque.class, "top");
+
+    private volatile long top;                       // next index to steal
+    private volatile long bottom;                    // next index to push
+    private volatile AtomicReferenceArray<T> array;  // circular buffer, length is a power of two
+
+    public WorkStealingDeque() {
+        this.array = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    }
+
+    // ==================== OWNER OPERATIONS ====================
+
+    /**
+     * Push task at the bottom (owner thread only)
+     * @param task Task to push
+     * Time Complexity: O(1) amortized
+     */
+    public void push(T task) {
+        long b = bottom;
+        long t = top;
+        AtomicReferenceArray<T> a = array;
+        if (b - t >= a.length()) {
+            a = grow(a, t, b);
+        }
+        a.lazySet((int) b & (a.length() - 1), task);
+        bottom = b + 1;
+    }
+
+    /**
+     * Pop task from the bottom (owner thread only)
+     * @return Most recently pushed task, or null if empty
+     * Time Complexity: O(1)
+     */
+    public T pop() {
+        long b = bottom - 1;
+        AtomicReferenceArray<T> a = array;
+        bottom = b;          // volatile write followed by volatile read of top: full fence
+        long t = top;
+
+        if (t > b) {         // empty
+            bottom = b + 1;
+            return null;
+        }
+
+        int index = (int) b & (a.length() - 1);
+        T task = a.get(index);
+        if (t == b) {
+            // Last element: race against thieves for it
+            if (!TOP.compareAndSet(this, t, t + 1)) {
+                task = null;
+            }
+            bottom = b + 1;
+        } else {
+            a.lazySet(index, null);
+        }
+        return task;
+    }
+
+    // ==================== THIEF OPERATIONS ====================
+
+    /**
+     * Steal task from the top (any thread)
+     * @return Oldest task, or null if empty or the race was lost
+     * Time Complexity: O(1)
+     */
+    public T steal() {
+        long t = top;
+        long b = bottom;
+        if (t >= b) {
+            return null;
+        }
+        AtomicReferenceArray<T> a = array;
+        T task = a.get((int) t & (a.length() - 1));
+        if (!TOP.compareAndSet(this, t, t + 1)) {
+            return null;
+        }
+        return task;
+    }
+
+    // ==================== UTILITY METHODS ====================
+
+    /**
+     * Approximate size, exact when quiescent
+     */
+    public int size() {
+        long n = bottom - top;
+        return n < 0 ? 0 : (int) n;
+    }
+
+    public boolean isEmpty() { return bottom <= top; }
+
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> old, long t, long b) {
+        AtomicReferenceArray<T> bigger = new AtomicReferenceArray<>(old.length() * 2);
+        int oldMask = old.length() - 1;
+        int newMask = bigger.length() - 1;
+        for (long i = t; i < b; i++) {
+            bigger.lazySet((int) i & newMask, old.get((int) i & oldMask));
+        }
+        array = bigger;
+        return bigger;
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    /**
+     * Main method: owner pushes/pops while thieves steal; every element
+     * must be taken exactly once
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Work-Stealing Deque Demo ===\n");
+
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+        for (int i = 1; i <= 5; i++) deque.push(i * 10);
+        System.out.println("Size: " + deque.size());
+        System.out.println("Pop (owner, LIFO): " + deque.pop());
+        System.out.println("Steal (thief, FIFO): " + deque.steal());
+        System.out.println("Size: " + deque.size());
+
+        final int total = 1_000_000;
+        final int thieves = 3;
+        WorkStealingDeque<Integer> shared = new WorkStealingDeque<>();
+        boolean[] seen = new boolean[total];
+        int[] takenBy = new int[thieves + 1];
+        java.util.concurrent.atomic.AtomicInteger taken = new java.util.concurrent.atomic.AtomicInteger();
+        java.util.concurrent.atomic.AtomicInteger duplicates = new java.util.concurrent.atomic.AtomicInteger();
+
+        Thread[] thiefThreads = new Thread[thieves];
+        for (int k = 0; k < thieves; k++) {
+            final int id = k + 1;
+            thiefThreads[k] = new Thread(() -> {
+                while (taken.get() < total) {
+                    Integer value = shared.steal();
+                    if (value == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    synchronized (seen) {
+                        if (seen[value]) duplicates.incrementAndGet();
+                        seen[value] = true;
+                    }
+                    takenBy[id]++;
+                    taken.incrementAndGet();
+                }
+            });
+            thiefThreads[k].start();
+        }
+
+        // Owner: push everything, popping one element every third push
+        for (int i = 0; i < total; i++) {
+            shared.push(i);
+            if (i % 3 == 0) {
+                Integer value = shared.pop();
+                if (value != null) {
+                    synchronized (seen) {
+                        if (seen[value]) duplicates.incrementAndGet();
+                        seen[value] = true;
+                    }
+                    takenBy[0]++;
+                    taken.incrementAndGet();
+                }
+            }
+        }
+        Integer value;
+        while ((value = shared.pop()) != null) {
+            synchronized (seen) {
+                if (seen[value]) duplicates.incrementAndGet();
+                seen[value] = true;
+            }
+            takenBy[0]++;
+            taken.incrementAndGet();
+        }
+        for (Thread thief : thiefThreads) thief.join();
+
+        System.out.println("\n--- Concurrent owner + " + thieves + " thieves ---");
+        System.out.println("Taken: " + taken.get() + " of " + total + ", duplicates: " + duplicates.get());
+        System.out.print("Owner took " + takenBy[0] + ", thieves took");
+        for (int k = 1; k <= thieves; k++) System.out.print(" " + takenBy[k]);
+        System.out.println();
+
+        System.out.println("\n=== Work-Stealing Deque Demo Complete ===");
+    }
+}
@@ -0,0 +1,293 @@
+package Queue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Small Fork-Join Executor built on WorkStealingDeque
+ *
+ * Every worker thread owns a WorkStealingDeque:
+ * - fork() pushes the subtask onto the current worker's deque
+ * - join() does not block; while the task is unfinished the joining worker
+ *   pops its own deque and steals from others ("helping"), so no thread idles
+ *   while work exists
+ * - Idle workers scan random victims, then the shared submission queue,
+ *   and finally park for a short time
+ *
+ * Intended for benchmarking fine-grained recursive tasks against ForkJoinPool.
+ *
+ * @author Interview Preparation
+ */
+public class WorkStealingExecutor implements AutoCloseable {
+
+    // ======================= TASK =======================
+
+    /**
+     * Recursive task producing a result of type V
+     */
+    public abstract static class Task<V> {
+        private volatile boolean done;
+        private V result;
+        private Throwable exception;
+
+        /**
+         * Compute the result; may fork() and join() subtasks
+         */
+        protected abstract V compute();
+
+        /**
+         * Schedule this task on the current worker's deque
+         * @throws IllegalStateException if not called from a worker thread
+         */
+        public final Task<V> fork() {
+            Worker worker = currentWorker();
+            if (worker == null) {
+                throw new IllegalStateException("fork() must be called from a worker thread");
+            }
+            worker.deque.push(this);
+            return this;
+        }
+
+        /**
+         * Wait for the result, running other tasks while waiting
+         * @throws RuntimeException or Error thrown by compute(), as is;
+         *         anything else wrapped in a RuntimeException (like ForkJoinTask)
+         */
+        public final V join() {
+            if (!done) {
+                Worker worker = currentWorker();
+                if (worker == null) {
+                    while (!done) LockSupport.parkNanos(50_000L);
+                } else {
+                    worker.helpUntil(this);
+                }
+            }
+            Throwable failure = exception;
+            if (failure != null) {
+                if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+                if (failure instanceof Error) throw (Error) failure;
+                throw new RuntimeException(failure);
+            }
+            return result;
+        }
+
+        /**
+         * Run compute() and complete the task, recording any failure so joiners
+         * wake up and the worker thread survives
+         */
+        final void run() {
+            try {
+                result = compute();
+            } catch (Throwable t) {
+                exception = t;
+            } finally {
+                done = true; // volatile write publishes result or exception
+            }
+        }
+
+        public final boolean isDone() { return done; }
+    }
+
+    // ======================= WORKER =======================
+
+    private final class Worker extends Thread {
+        final WorkStealingDeque<Task<?>> deque = new WorkStealingDeque<>();
+        final int index;
+
+        Worker(int index) {
+            super("ws-worker-" + index);
+            this.index = index;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            int idleRounds = 0;
+            while (!shutdown) {
+                Task<?> task = findWork();
+                if (task != null) {
+                    task.run();
+                    idleRounds = 0;
+                } else if (++idleRounds < 64) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(100_000L);
+                }
+            }
+        }
+
+        /**
+         * Keep executing other tasks until target has completed
+         */
+        void helpUntil(Task<?> target) {
+            while (!target.isDone()) {
+                Task<?> task = findWork();
+                if (task != null) {
+                    task.run();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+
+        private Task<?> findWork() {
+            Task<?> task = deque.pop();
+            if (task != null) return task;
+
+            int n = workers.length;
+            int start = ThreadLocalRandom.current().nextInt(n);
+            for (int i = 0; i < n; i++) {
+                int victim = (start + i) % n;
+                if (victim == index) continue;
+                task = workers[victim].deque.steal();
+                if (task != null) return task;
+            }
+            return submissions.poll();
+        }
+    }
+
+    private static Worker currentWorker() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof WorkStealingExecutor.Worker ? (Worker) thread : null;
+    }
+
+    // ======================= EXECUTOR =======================
+
+    private final Worker[] workers;
+    private final ConcurrentLinkedQueue<Task<?>> submissions = new ConcurrentLinkedQueue<>();
+    private volatile boolean shutdown;
+
+    /**
+     * Constructor
+     * @param parallelism Number of worker threads
+     */
+    public WorkStealingExecutor(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Submit a task from outside and wait for its result
+     */
+    public <V> V invoke(Task<V> task) {
+        if (currentWorker() != null) {
+            task.run();
+            return task.join();
+        }
+        submissions.offer(task);
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        return task.join();
+    }
+
+    public int parallelism() { return workers.length; }
+
+    @Override
+    public void close() {
+        shutdown = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    // ==================== DEMONSTRATION AND BENCHMARK ====================
+
+    /**
+     * Naive recursive fibonacci: millions of tiny tasks
+     */
+    private static final class Fib extends Task<Long> {
+        final int n;
+        Fib(int n) { this.n = n; }
+
+        protected Long compute() {
+            if (n <= THRESHOLD) return sequentialFib(n);
+            Fib left = new Fib(n - 1);
+            left.fork();
+            long right = new Fib(n - 2).compute();
+            return left.join() + right;
+        }
+    }
+
+    private static final class ForkJoinFib extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        final int n;
+        ForkJoinFib(int n) { this.n = n; }
+
+        protected Long compute() {
+            if (n <= THRESHOLD) return sequentialFib(n);
+            ForkJoinFib left = new ForkJoinFib(n - 1);
+            left.fork();
+            long right = new ForkJoinFib(n - 2).compute();
+            return left.join() + right;
+        }
+    }
+
+    private static final int THRESHOLD = 10;
+
+    private static long sequentialFib(int n) {
+        return n < 2 ? n : sequentialFib(n - 1) + sequentialFib(n - 2);
+    }
+
+    /**
+     * Main method: compare against ForkJoinPool on fine-grained tasks
+     * @param args Optional: fibonacci n (default 32)
+     */
+    public static void main(String[] args) {
+        System.out.println("=== Work-Stealing Executor Demo ===\n");
+
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+
+        try (WorkStealingExecutor executor = new WorkStealingExecutor(parallelism)) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            System.out.println("fib(" + n + "), threshold " + THRESHOLD + ", " + parallelism + " workers");
+
+            for (int round = 1; round <= 3; round++) {
+                long start = System.nanoTime();
+                long ours = executor.invoke(new Fib(n));
+                long oursNanos = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                long theirs = pool.invoke(new ForkJoinFib(n));
+                long theirsNanos = System.nanoTime() - start;
+
+                System.out.printf("Round %d: WorkStealingExecutor %.1f ms (%d), ForkJoinPool %.1f ms (%d)%n",
+                        round, oursNanos / 1e6, ours, theirsNanos / 1e6, theirs);
+            }
+            pool.shutdown();
+
+            // A failing subtask completes exceptionally instead of hanging its joiner
+            try {
+                executor.invoke(new Task<Long>() {
+                    protected Long compute() {
+                        Fib ok = new Fib(20);
+                        ok.fork();
+                        Task<Long> bad = new Task<Long>() {
+                            protected Long compute() { throw new ArithmeticException("boom"); }
+                        };
+                        bad.fork();
+                        return ok.join() + bad.join();
+                    }
+                });
+                System.out.println("Failing task: no exception (unexpected)");
+            } catch (ArithmeticException e) {
+                System.out.println("Failing task rethrown from join(): " + e.getMessage());
+            }
+            System.out.println("Executor still usable afterwards: fib(25) = " + executor.invoke(new Fib(25)));
+        }
+
+        System.out.println("\n=== Work-Stealing Executor Demo Complete ===");
+    }
+}
@@ -0,0 +1,524 @@
+package Stack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compile-Once Expression Engine
+ *
+ * Production version of Stack.infixToPostfix + Stack.evaluatePostfix for formulas
+ * that are evaluated millions of times with different variable bindings.
+ *
+ * Compile (once per formula, cached by source text):
+ * - Tokenizes multi-digit / decimal numbers, variables, parentheses and the
+ *   operators + - * / % ^ plus unary minus
+ * - Runs the shunting-yard algorithm (same idea as infixToPostfix) and emits
+ *   compact postfix bytecode: one int per instruction, opcode in the low 8 bits
+ *   and operand (constant or variable index) in the upper 24 bits
+ * - Computes the maximum operand-stack depth, so evaluation never grows a stack
+ *
+ * Evaluate (per row):
+ * - Walks the int[] bytecode with a preallocated double[] / long[] operand stack
+ * - No parsing, no string splitting, no boxing: zero allocation per evaluation
+ *
+ * Precedence (high to low): ^ (right-assoc), unary -, * / %, + -
+ *
+ * Time Complexities:
+ * - compile: O(length of source)
+ * - evaluate: O(number of instructions)
+ *
+ * @author Interview Preparation
+ */
+public class ExpressionEngine {
+
+    // ======================= BYTECODE =======================
+
+    static final int OP_CONST = 0;
+    static final int OP_VAR = 1;
+    static final int OP_ADD = 2;
+    static final int OP_SUB = 3;
+    static final int OP_MUL = 4;
+    static final int OP_DIV = 5;
+    static final int OP_MOD = 6;
+    static final int OP_POW = 7;
+    static final int OP_NEG = 8;
+
+    private static final int OPERAND_SHIFT = 8;
+    private static final int OPCODE_MASK = 0xFF;
+
+    // Per-thread operand stacks for the convenience evaluate overloads, shared by all
+    // Compiled instances and grown to the deepest expression the thread has run
+    private static final ThreadLocal<double[]> DOUBLE_SCRATCH = ThreadLocal.withInitial(() -> new double[16]);
+    private static final ThreadLocal<long[]> LONG_SCRATCH = ThreadLocal.withInitial(() -> new long[16]);
+
+    /**
+     * A compiled expression: postfix bytecode plus its constant pool.
+     * Immutable, so one instance can be shared between threads (the cache does)
+     */
+    public static final class Compiled {
+        private final String source;
+        private final int[] code;
+        private final double[] doubleConstants;
+        private final long[] longConstants;
+        private final boolean integral;     // no decimal literals
+        private final int maxStack;
+
+        private Compiled(String source, int[] code, double[] doubleConstants, long[] longConstants,
+                         boolean integral, int maxStack) {
+            this.source = source;
+            this.code = code;
+            this.doubleConstants = doubleConstants;
+            this.longConstants = longConstants;
+            this.integral = integral;
+            this.maxStack = maxStack;
+        }
+
+        /**
+         * Evaluate with double arithmetic using the calling thread's scratch stack.
+         * Safe to call from several threads on one (cached, shared) Compiled
+         */
+        public double evaluate(double[] vars) {
+            double[] stack = DOUBLE_SCRATCH.get();
+            if (stack.length < maxStack) {
+                stack = new double[maxStack];
+                DOUBLE_SCRATCH.set(stack);
+            }
+            return evaluate(vars, stack);
+        }
+
+        /**
+         * Evaluate with double arithmetic
+         * @param vars Variable values, indexed like the engine's variable names
+         * @param stack Scratch operand stack of at least maxStackDepth() entries
+         */
+        public double evaluate(double[] vars, double[] stack) {
+            int sp = 0;
+            for (int instruction : code) {
+                int operand = instruction >>> OPERAND_SHIFT;
+                switch (instruction & OPCODE_MASK) {
+                    case OP_CONST: stack[sp++] = doubleConstants[operand]; break;
+                    case OP_VAR:   stack[sp++] = vars[operand]; break;
+                    case OP_ADD:   sp--; stack[sp - 1] += stack[sp]; break;
+                    case OP_SUB:   sp--; stack[sp - 1] -= stack[sp]; break;
+                    case OP_MUL:   sp--; stack[sp - 1] *= stack[sp]; break;
+                    case OP_DIV:   sp--; stack[sp - 1] /= stack[sp]; break;
+                    case OP_MOD:   sp--; stack[sp - 1] %= stack[sp]; break;
+                    case OP_POW:   sp--; stack[sp - 1] = Math.pow(stack[sp - 1], stack[sp]); break;
+                    case OP_NEG:   stack[sp - 1] = -stack[sp - 1]; break;
+                    default: throw new IllegalStateException("Bad opcode: " + instruction);
+                }
+            }
+            return stack[0];
+        }
+
+        /**
+         * Evaluate with long arithmetic (integer division) using the calling thread's
+         * scratch stack. Safe to call from several threads on one Compiled
+         * @throws IllegalStateException if the source contains decimal literals
+         */
+        public long evaluateLong(long[] vars) {
+            long[] stack = LONG_SCRATCH.get();
+            if (stack.length < maxStack) {
+                stack = new long[maxStack];
+                LONG_SCRATCH.set(stack);
+            }
+            return evaluateLong(vars, stack);
+        }
+
+        /**
+         * Evaluate with long arithmetic (integer division, truncating)
+         * @throws ArithmeticException on division by zero
+         */
+        public long evaluateLong(long[] vars, long[] stack) {
+            if (!integral) {
+                throw new IllegalStateException("Expression has decimal literals: " + source);
+            }
+            int sp = 0;
+            for (int instruction : code) {
+                int operand = instruction >>> OPERAND_SHIFT;
+                switch (instruction & OPCODE_MASK) {
+                    case OP_CONST: stack[sp++] = longConstants[operand]; break;
+                    case OP_VAR:   stack[sp++] = vars[operand]; break;
+                    case OP_ADD:   sp--; stack[sp - 1] += stack[sp]; break;
+                    case OP_SUB:   sp--; stack[sp - 1] -= stack[sp]; break;
+                    case OP_MUL:   sp--; stack[sp - 1] *= stack[sp]; break;
+                    case OP_DIV:   sp--; stack[sp - 1] /= stack[sp]; break;
+                    case OP_MOD:   sp--; stack[sp - 1] %= stack[sp]; break;
+                    case OP_POW:   sp--; stack[sp - 1] = longPow(stack[sp - 1], stack[sp]); break;
+                    case OP_NEG:   stack[sp - 1] = -stack[sp - 1]; break;
+                    default: throw new IllegalStateException("Bad opcode: " + instruction);
+                }
+            }
+            return stack[0];
+        }
+
+        public String source() { return source; }
+        public int maxStackDepth() { return maxStack; }
+        public boolean isIntegral() { return integral; }
+
+        /**
+         * Bytecode (copy), for inspection and for batch evaluators
+         */
+        public int[] code() { return code.clone(); }
+        public double[] doubleConstants() { return doubleConstants.clone(); }
+
+        /**
+         * Human-readable postfix form, e.g. "x 2 * y +"
+         */
+        public String toPostfix(String[] variableNames) {
+            StringBuilder sb = new StringBuilder();
+            for (int instruction : code) {
+                if (sb.length() > 0) sb.append(' ');
+                int operand = instruction >>> OPERAND_SHIFT;
+                switch (instruction & OPCODE_MASK) {
+                    case OP_CONST:
+                        sb.append(integral ? String.valueOf(longConstants[operand])
+                                           : String.valueOf(doubleConstants[operand]));
+                        break;
+                    case OP_VAR: sb.append(variableNames[operand]); break;
+                    default: sb.append(OPERATOR_SYMBOLS[instruction & OPCODE_MASK]);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final String[] OPERATOR_SYMBOLS = {"", "", "+", "-", "*", "/", "%", "^", "neg"};
+
+    // ======================= ENGINE =======================
+
+    private final String[] variableNames;
+    private final Map<String, Integer> variableIndex = new HashMap<>();
+    private final Map<String, Compiled> cache;
+
+    /**
+     * Constructor
+     * @param cacheCapacity Maximum number of compiled expressions kept (LRU)
+     * @param variableNames Variable names; their position is the index into the vars array
+     */
+    public ExpressionEngine(int cacheCapacity, String... variableNames) {
+        this.variableNames = variableNames.clone();
+        for (int i = 0; i < variableNames.length; i++) {
+            if (variableIndex.put(variableNames[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate variable: " + variableNames[i]);
+            }
+        }
+        this.cache = new LinkedHashMap<String, Compiled>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Compiled> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    public ExpressionEngine(String... variableNames) {
+        this(1024, variableNames);
+    }
+
+    /**
+     * Compiled form of source, compiling it on the first request
+     * Time Complexity: O(1) on a cache hit, O(length) otherwise
+     */
+    public Compiled compile(String source) {
+        synchronized (cache) {
+            Compiled compiled = cache.get(source);
+            if (compiled == null) {
+                compiled = new Compiler(source).compile();
+                cache.put(source, compiled);
+            }
+            return compiled;
+        }
+    }
+
+    public int variableIndex(String name) {
+        Integer index = variableIndex.get(name);
+        if (index == null) throw new IllegalArgumentException("Unknown variable: " + name);
+        return index;
+    }
+
+    public String[] variableNames() { return variableNames.clone(); }
+
+    public int cacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    // ======================= COMPILER (SHUNTING-YARD) =======================
+
+    private static final char UNARY_MINUS = 'u';
+
+    /**
+     * One-shot compiler for a single source string
+     */
+    private final class Compiler {
+        private final String src;
+        private final Stack.IntStack output = new Stack.IntStack();
+        private final List<Double> doubles = new ArrayList<>();
+        private final List<Long> longs = new ArrayList<>();
+        private final Stack.IntStack operators = new Stack.IntStack();
+        private final Stack.IntStack operatorPositions = new Stack.IntStack();
+        private boolean integral = true;
+        private int depth;
+        private int maxDepth;
+
+        Compiler(String src) {
+            this.src = src;
+        }
+
+        Compiled compile() {
+            boolean expectOperand = true; // true at start, after an operator or '('
+            int i = 0;
+            while (i < src.length()) {
+                char ch = src.charAt(i);
+
+                if (Character.isWhitespace(ch)) {
+                    i++;
+                } else if (Character.isDigit(ch) || ch == '.') {
+                    if (!expectOperand) throw error("Unexpected number", i);
+                    i = readNumber(i);
+                    expectOperand = false;
+                } else if (Character.isLetter(ch) || ch == '_') {
+                    if (!expectOperand) throw error("Unexpected variable", i);
+                    int start = i;
+                    while (i < src.length() && (Character.isLetterOrDigit(src.charAt(i)) || src.charAt(i) == '_')) i++;
+                    String name = src.substring(start, i);
+                    Integer index = variableIndex.get(name);
+                    if (index == null) throw error("Unknown variable '" + name + "'", start);
+                    emit(OP_VAR, index);
+                    expectOperand = false;
+                } else if (ch == '(') {
+                    if (!expectOperand) throw error("Unexpected '('", i);
+                    pushOperator('(', i++);
+                } else if (ch == ')') {
+                    if (expectOperand) throw error("Unexpected ')'", i);
+                    while (!operators.isEmpty() && operators.peek() != '(') popOperator();
+                    if (operators.isEmpty()) throw error("Mismatched ')'", i);
+                    operators.pop();
+                    operatorPositions.pop();
+                    i++;
+                } else if (ch == '-' && expectOperand) {
+                    pushOperator(UNARY_MINUS, i++); // prefix: never pops anything
+                } else if (precedence(ch) > 0) {
+                    if (expectOperand) throw error("Missing operand before '" + ch + "'", i);
+                    int p = precedence(ch);
+                    while (!operators.isEmpty() && operators.peek() != '('
+                            && (precedence(operators.peek()) > p
+                                || (precedence(operators.peek()) == p && ch != '^'))) {
+                        popOperator();
+                    }
+                    pushOperator(ch, i++);
+                    expectOperand = true;
+                } else {
+                    throw error("Unexpected character '" + ch + "'", i);
+                }
+            }
+
+            if (expectOperand) throw error("Expression ends without an operand", src.length());
+            while (!operators.isEmpty()) {
+                if (operators.peek() == '(') throw error("Mismatched '('", operatorPositions.peek());
+                popOperator();
+            }
+
+            int[] code = new int[output.size()];
+            output.popInto(code);
+            reverse(code);
+            double[] doubleConstants = new double[doubles.size()];
+            long[] longConstants = new long[longs.size()];
+            for (int k = 0; k < doubleConstants.length; k++) {
+                doubleConstants[k] = doubles.get(k);
+                longConstants[k] = longs.get(k);
+            }
+            return new Compiled(src, code, doubleConstants, longConstants, integral, Math.max(1, maxDepth));
+        }
+
+        private int readNumber(int start) {
+            int i = start;
+            boolean decimal = false;
+            while (i < src.length() && (Character.isDigit(src.charAt(i)) || src.charAt(i) == '.')) {
+                if (src.charAt(i) == '.') {
+                    if (decimal) throw error("Malformed number", start);
+                    decimal = true;
+                }
+                i++;
+            }
+            String text = src.substring(start, i);
+            if (text.equals(".")) throw error("Malformed number", start);
+            double value = Double.parseDouble(text);
+            if (decimal) integral = false;
+            doubles.add(value);
+            longs.add(decimal ? (long) value : Long.parseLong(text));
+            emit(OP_CONST, doubles.size() - 1);
+            return i;
+        }
+
+        private void pushOperator(int op, int position) {
+            operators.push(op);
+            operatorPositions.push(position);
+        }
+
+        private void popOperator() {
+            int op = operators.pop();
+            operatorPositions.pop();
+            switch (op) {
+                case '+': emit(OP_ADD, 0); break;
+                case '-': emit(OP_SUB, 0); break;
+                case '*': emit(OP_MUL, 0); break;
+                case '/': emit(OP_DIV, 0); break;
+                case '%': emit(OP_MOD, 0); break;
+                case '^': emit(OP_POW, 0); break;
+                case UNARY_MINUS: emit(OP_NEG, 0); break;
+                default: throw new IllegalStateException("Unknown operator: " + (char) op);
+            }
+        }
+
+        private void emit(int opcode, int operand) {
+            if (operand >= (1 << (32 - OPERAND_SHIFT))) {
+                throw new IllegalArgumentException("Too many constants or variables");
+            }
+            output.push(opcode | (operand << OPERAND_SHIFT));
+            if (opcode == OP_CONST || opcode == OP_VAR) {
+                maxDepth = Math.max(maxDepth, ++depth);
+            } else if (opcode != OP_NEG) {
+                depth--;
+            }
+        }
+
+        private IllegalArgumentException error(String message, int position) {
+            return new IllegalArgumentException(message + " at position " + position + " in \"" + src + "\"");
+        }
+    }
+
+    private static int precedence(int op) {
+        switch (op) {
+            case '+':
+            case '-':
+                return 1;
+            case '*':
+            case '/':
+            case '%':
+                return 2;
+            case UNARY_MINUS:
+                return 3;
+            case '^':
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+    private static long longPow(long base, long exponent) {
+        if (exponent < 0) {
+            if (base == 0) throw new ArithmeticException("Zero to a negative power");
+            return base == 1 ? 1 : base == -1 ? ((exponent & 1) == 0 ? 1 : -1) : 0;
+        }
+        long result = 1;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) result *= base;
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    private static void reverse(int[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            int temp = a[i];
+            a[i] = a[j];
+            a[j] = temp;
+        }
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) {
+        System.out.println("=== Expression Engine Demo ===\n");
+
+        ExpressionEngine engine = new ExpressionEngine("x", "y", "rate");
+        String[] names = engine.variableNames();
+
+        String[] sources = {
+            "2+3*1-9",
+            "12 * (x + 100) - y / 4",
+            "-x^2 + 2^3^2",
+            "rate * 1.5 - -y",
+            "(x % 7) * -(y - 10)"
+        };
+        double[] vars = {3, 40, 0.25};
+        long[] longVars = {3, 40, 0};
+
+        for (String source : sources) {
+            Compiled compiled = engine.compile(source);
+            System.out.println(source);
+            System.out.println("  postfix: " + compiled.toPostfix(names) + "   (max stack " + compiled.maxStackDepth() + ")");
+            System.out.print("  double: " + compiled.evaluate(vars));
+            if (compiled.isIntegral()) System.out.print(", long: " + compiled.evaluateLong(longVars));
+            System.out.println();
+        }
+
+        // Compile errors
+        String[] broken = {"2 +", "(x * 3", "x y", "3 $ 4", "z + 1"};
+        for (String source : broken) {
+            try {
+                engine.compile(source);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Error: " + e.getMessage());
+            }
+        }
+
+        // Throughput: same formula, different bindings
+        Compiled formula = engine.compile("12 * (x + 100) - y / 4 + rate * x");
+        int rows = 10_000_000;
+        double sum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            vars[0] = i;
+            vars[1] = i * 0.5;
+            sum += formula.evaluate(vars);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%nEvaluated %d rows at %.1f M rows/s (sum %.1f), cache size %d%n",
+                rows, rows / seconds / 1e6, sum, engine.cacheSize());
+        System.out.println("Same instance from cache: " + (formula == engine.compile("12 * (x + 100) - y / 4 + rate * x")));
+        System.out.println("Bytecode: " + Arrays.toString(formula.code()));
+
+        // The cached instance is shared: threads evaluating it concurrently must not
+        // disturb each other's operand stacks
+        int threadCount = 4;
+        int perThread = 200_000;
+        boolean[] agree = new boolean[threadCount];
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                Compiled shared = engine.compile("12 * (x + 100) - y / 4 + rate * x");
+                double[] own = vars.clone();
+                boolean ok = true;
+                for (int i = 0; i < perThread; i++) {
+                    own[0] = i + id;
+                    own[1] = i * 0.5;
+                    double expected = 12 * (own[0] + 100) - own[1] / 4 + own[2] * own[0];
+                    ok &= shared.evaluate(own) == expected;
+                }
+                agree[id] = ok;
+            });
+            threads[t].start();
+        }
+        boolean allAgree = true;
+        for (int t = 0; t < threadCount; t++) {
+            try {
+                threads[t].join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            allAgree &= agree[t];
+        }
+        System.out.println(threadCount + " threads sharing the cached instance agree with Java arithmetic: " + allAgree);
+
+        System.out.println("\n=== Expression Engine Demo Complete ===");
+    }
+}
@@ -0,0 +1,348 @@
+package Stack;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Monotonic Stack Query Engine
+ *
+ * Generalizes Stack.nextGreaterElement to all four queries
+ *   NEXT_GREATER, NEXT_SMALLER, PREVIOUS_GREATER, PREVIOUS_SMALLER
+ * with strict (>, <) or non-strict (>=, <=) comparison, answering with indices
+ * (-1 when there is none) so spans and widths are a subtraction away.
+ *
+ * Three modes:
+ * - Batch: one pass over a long[] with a preallocated int[] index stack
+ * - Streaming: elements arrive one at a time; each answer is emitted as soon as it
+ *   is known (immediately for PREVIOUS_*, when the answering element arrives for
+ *   NEXT_*). Memory is the stack only, never the history
+ * - Parallel: chunks are solved independently, leaving a monotonic stack of pending
+ *   elements each; a merge pass then resolves pending elements across chunks
+ *
+ * Smaller-than queries reuse the greater-than code on ~value, which reverses the
+ * order of every long (including Long.MIN_VALUE) without overflow.
+ *
+ * Time Complexities:
+ * - Batch / streaming: O(n) total, amortized O(1) per element
+ * - Parallel: O(n / cores) plus a sequential merge over pending elements and
+ *   chunk "record" elements, typically far smaller than n
+ *
+ * @author Interview Preparation
+ */
+public class MonotonicStackEngine {
+
+    public static final int NONE = -1;
+
+    public enum Query {
+        NEXT_GREATER(true, true),
+        NEXT_SMALLER(true, false),
+        PREVIOUS_GREATER(false, true),
+        PREVIOUS_SMALLER(false, false);
+
+        final boolean next;
+        final boolean greater;
+
+        Query(boolean next, boolean greater) {
+            this.next = next;
+            this.greater = greater;
+        }
+    }
+
+    // ==================== BATCH MODE ====================
+
+    /**
+     * Answer index for every element
+     * @param values Input series
+     * @param query Which neighbour to find
+     * @param strict true for > / <, false for >= / <=
+     * @return answer[i] = index of the answer for values[i], or NONE
+     * Time Complexity: O(n), Space: O(n)
+     */
+    public static int[] compute(long[] values, Query query, boolean strict) {
+        int[] answer = new int[values.length];
+        Arrays.fill(answer, NONE);
+        int[] stack = new int[Math.max(1, values.length)];
+        solveChunk(values, query, strict, 0, values.length, answer, stack);
+        return answer;
+    }
+
+    public static int[] compute(int[] values, Query query, boolean strict) {
+        return compute(toLongs(values), query, strict);
+    }
+
+    /**
+     * Scan [from, to) in query direction, resolving what can be resolved inside it
+     * @param stack Scratch of at least to - from entries; on return holds the pending indices
+     * @return Number of pending (unresolved) indices left in stack, bottom first
+     */
+    private static int solveChunk(long[] values, Query query, boolean strict, int from, int to,
+                                  int[] answer, int[] stack) {
+        int top = 0;
+        int step = query.next ? 1 : -1;
+        int i = query.next ? from : to - 1;
+        for (int k = from; k < to; k++, i += step) {
+            long key = query.greater ? values[i] : ~values[i];
+            while (top > 0 && beats(key, query.greater ? values[stack[top - 1]] : ~values[stack[top - 1]], strict)) {
+                answer[stack[--top]] = i;
+            }
+            stack[top++] = i;
+        }
+        return top;
+    }
+
+    private static boolean beats(long key, long pendingKey, boolean strict) {
+        return strict ? key > pendingKey : key >= pendingKey;
+    }
+
+    // ==================== PARALLEL MODE ====================
+
+    /**
+     * Per-chunk result of the parallel pass
+     */
+    private static final class ChunkResult {
+        int[] pending;      // unresolved indices, bottom (oldest in scan order) first
+        int pendingCount;
+        int[] records;      // elements beating everything before them in the chunk, in scan order
+        int recordCount;
+    }
+
+    /**
+     * Same answer as compute, chunks solved on all cores
+     * @param chunkSize Elements per chunk (e.g. 1 << 20)
+     */
+    public static int[] computeParallel(long[] values, Query query, boolean strict, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive");
+        int n = values.length;
+        int[] answer = new int[n];
+        int chunks = Math.max(1, (n + chunkSize - 1) / chunkSize);
+        ChunkResult[] results = new ChunkResult[chunks];
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = (int) Math.min((long) c * chunkSize, n);
+            int to = (int) Math.min((long) from + chunkSize, n);
+            Arrays.fill(answer, from, to, NONE);
+            ChunkResult result = new ChunkResult();
+            result.pending = new int[Math.max(1, to - from)];
+            result.pendingCount = solveChunk(values, query, strict, from, to, answer, result.pending);
+            result.pending = Arrays.copyOf(result.pending, result.pendingCount);
+            findRecords(values, query, from, to, result);
+            results[c] = result;
+        });
+
+        // Merge: chunks in scan order. The first element of a later chunk that beats a
+        // pending element always beats everything before it in its own chunk, so only
+        // chunk records need to be tried against the pending stack
+        int[] pending = new int[Math.max(1, n)];
+        int top = 0;
+        for (int k = 0; k < chunks; k++) {
+            ChunkResult result = results[query.next ? k : chunks - 1 - k];
+            for (int r = 0; r < result.recordCount && top > 0; r++) {
+                int i = result.records[r];
+                long key = query.greater ? values[i] : ~values[i];
+                while (top > 0 && beats(key, query.greater ? values[pending[top - 1]] : ~values[pending[top - 1]], strict)) {
+                    answer[pending[--top]] = i;
+                }
+            }
+            System.arraycopy(result.pending, 0, pending, top, result.pendingCount);
+            top += result.pendingCount;
+        }
+        return answer;
+    }
+
+    /**
+     * Prefix records of the chunk in scan order: elements strictly beating all earlier ones
+     */
+    private static void findRecords(long[] values, Query query, int from, int to, ChunkResult result) {
+        int[] records = new int[16];
+        int count = 0;
+        long best = 0;
+        int step = query.next ? 1 : -1;
+        int i = query.next ? from : to - 1;
+        for (int k = from; k < to; k++, i += step) {
+            long key = query.greater ? values[i] : ~values[i];
+            if (count == 0 || key > best) {
+                if (count == records.length) records = Arrays.copyOf(records, count * 2);
+                records[count++] = i;
+                best = key;
+            }
+        }
+        result.records = records;
+        result.recordCount = count;
+    }
+
+    // ==================== STREAMING MODE ====================
+
+    /**
+     * Receives (index, answerIndex) pairs; answerIndex is NONE when there is no answer
+     */
+    @FunctionalInterface
+    public interface AnswerConsumer {
+        void accept(long index, long answerIndex);
+    }
+
+    /**
+     * Streaming engine: accept values one at a time, answers are emitted when resolved.
+     * PREVIOUS_* queries answer every element on arrival; NEXT_* queries answer an
+     * element when its next greater/smaller arrives, or with NONE on finish()
+     */
+    public static final class Streaming {
+        private final Query query;
+        private final boolean strict;
+        private final AnswerConsumer sink;
+        private long[] stackIndex = new long[64];
+        private long[] stackKey = new long[64];
+        private int top;
+        private long count;
+
+        public Streaming(Query query, boolean strict, AnswerConsumer sink) {
+            this.query = query;
+            this.strict = strict;
+            this.sink = sink;
+        }
+
+        /**
+         * Process the next element
+         * Time Complexity: amortized O(1)
+         */
+        public void accept(long value) {
+            long index = count++;
+            long key = query.greater ? value : ~value;
+            if (query.next) {
+                while (top > 0 && beats(key, stackKey[top - 1], strict)) {
+                    top--;
+                    sink.accept(stackIndex[top], index);
+                }
+            } else {
+                // Keep only elements that could answer a later one: pop those the new one covers
+                while (top > 0 && !beats(stackKey[top - 1], key, strict)) {
+                    top--;
+                }
+                sink.accept(index, top > 0 ? stackIndex[top - 1] : NONE);
+            }
+            push(index, key);
+        }
+
+        /**
+         * End of stream: pending NEXT_* elements have no answer
+         */
+        public void finish() {
+            if (query.next) {
+                for (int i = 0; i < top; i++) sink.accept(stackIndex[i], NONE);
+            }
+            top = 0;
+        }
+
+        /** Elements currently held (the only memory the stream keeps) */
+        public int pending() { return top; }
+
+        public long count() { return count; }
+
+        private void push(long index, long key) {
+            if (top == stackIndex.length) {
+                stackIndex = Arrays.copyOf(stackIndex, top * 2);
+                stackKey = Arrays.copyOf(stackKey, top * 2);
+            }
+            stackIndex[top] = index;
+            stackKey[top] = key;
+            top++;
+        }
+    }
+
+    // ==================== APPLICATIONS ====================
+
+    /**
+     * Stock span: number of consecutive days up to today with price <= today's
+     */
+    public static int[] span(long[] prices) {
+        int[] previousGreater = compute(prices, Query.PREVIOUS_GREATER, true);
+        int[] span = new int[prices.length];
+        for (int i = 0; i < prices.length; i++) span[i] = i - previousGreater[i];
+        return span;
+    }
+
+    /**
+     * Largest rectangle in a histogram, using parallel previous/next smaller
+     * Time Complexity: O(n / cores) plus merge
+     */
+    public static long largestRectangle(long[] heights, int chunkSize) {
+        int n = heights.length;
+        int[] left = computeParallel(heights, Query.PREVIOUS_SMALLER, true, chunkSize);
+        int[] right = computeParallel(heights, Query.NEXT_SMALLER, true, chunkSize);
+        long best = 0;
+        for (int i = 0; i < n; i++) {
+            int width = (right[i] == NONE ? n : right[i]) - left[i] - 1;
+            best = Math.max(best, heights[i] * width);
+        }
+        return best;
+    }
+
+    private static long[] toLongs(int[] values) {
+        long[] longs = new long[values.length];
+        for (int i = 0; i < values.length; i++) longs[i] = values[i];
+        return longs;
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) {
+        System.out.println("=== Monotonic Stack Engine Demo ===\n");
+
+        int[] arr = {4, 5, 2, 25, 7, 8, 8, 2};
+        System.out.println("Array: " + Arrays.toString(arr));
+        System.out.println("nextGreaterElement (values): " + Arrays.toString(Stack.nextGreaterElement(arr)));
+        for (Query query : Query.values()) {
+            System.out.println(query + " strict:     " + Arrays.toString(compute(arr, query, true)));
+            System.out.println(query + " non-strict: " + Arrays.toString(compute(arr, query, false)));
+        }
+
+        // Streaming: answers appear as soon as they are known
+        StringBuilder emitted = new StringBuilder();
+        Streaming stream = new Streaming(Query.NEXT_GREATER, true,
+                (index, answer) -> emitted.append(index).append("->").append(answer).append(' '));
+        for (int value : arr) stream.accept(value);
+        System.out.println("\nStreaming NEXT_GREATER before finish: " + emitted + "(pending " + stream.pending() + ")");
+        stream.finish();
+        System.out.println("After finish: " + emitted);
+
+        System.out.println("Stock span of [100, 80, 60, 70, 60, 75, 85]: "
+                + Arrays.toString(span(new long[] {100, 80, 60, 70, 60, 75, 85})));
+        System.out.println("Largest rectangle in [2, 1, 5, 6, 2, 3]: "
+                + largestRectangle(new long[] {2, 1, 5, 6, 2, 3}, 2));
+
+        // Parallel vs batch on a random walk with many ties
+        int n = 20_000_000;
+        long[] series = new long[n];
+        java.util.Random random = new java.util.Random(5);
+        for (int i = 1; i < n; i++) series[i] = series[i - 1] + random.nextInt(7) - 3;
+
+        boolean allMatch = true;
+        for (Query query : Query.values()) {
+            for (boolean strict : new boolean[] {true, false}) {
+                long start = System.nanoTime();
+                int[] batch = compute(series, query, strict);
+                double batchMs = (System.nanoTime() - start) / 1e6;
+                start = System.nanoTime();
+                int[] parallel = computeParallel(series, query, strict, 1 << 18);
+                double parallelMs = (System.nanoTime() - start) / 1e6;
+                boolean match = Arrays.equals(batch, parallel);
+                allMatch &= match;
+                System.out.printf("%n%-16s %-10s batch %6.1f ms, parallel %6.1f ms, identical: %s",
+                        query, strict ? "strict" : "non-strict", batchMs, parallelMs, match);
+            }
+        }
+        System.out.println("\n\nAll parallel results match batch: " + allMatch + " ("
+                + Runtime.getRuntime().availableProcessors() + " cores)");
+
+        // Streaming PREVIOUS_SMALLER agrees with batch
+        int[] expected = compute(series, Query.PREVIOUS_SMALLER, false);
+        boolean[] streamOk = {true};
+        Streaming previous = new Streaming(Query.PREVIOUS_SMALLER, false, (index, answer) -> {
+            if (expected[(int) index] != answer) streamOk[0] = false;
+        });
+        for (long value : series) previous.accept(value);
+        previous.finish();
+        System.out.println("Streaming PREVIOUS_SMALLER matches batch: " + streamOk[0]);
+
+        System.out.println("\n=== Monotonic Stack Engine Demo Complete ===");
+    }
+}
@@ -0,0 +1,313 @@
+package Stack;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel Bracket Validator for multi-GB files
+ *
+ * Same answer as Stack.isBalancedParentheses for ( ) [ ] { }, but for files too large
+ * to hold in a String: the file is memory-mapped in chunks and every chunk is reduced
+ * on its own core to a compact Summary, then the summaries are combined left to right.
+ *
+ * Summary of a chunk (what is left after cancelling every matched pair inside it):
+ *   closers...  openers...
+ * i.e. the unmatched closing brackets (in order) followed by the unmatched opening
+ * brackets (in order), or MISMATCH if the chunk itself contains a wrong pair like "(]".
+ * The closer/opener sequences are only as long as the nesting depth at the chunk
+ * edges, not the chunk length.
+ *
+ * Combining A then B matches A's openers (innermost first) against B's closers:
+ *   A = c1 | o1   B = c2 | o2   ->   c1 + leftover(c2) | leftover(o1) + o2
+ * This is associative, so the chunks can be reduced in any grouping (parallel reduce).
+ * Per-type counts alone would not be enough: "([)]" has one unmatched pair of each
+ * type per half yet is invalid, which the ordered sequences catch.
+ *
+ * Bytes are scanned directly: in UTF-8 every byte of a multi-byte character is >= 0x80,
+ * so an ASCII bracket byte is always a real bracket.
+ *
+ * Time Complexity: O(n / cores + chunks * depth); Space: O(chunks * depth)
+ *
+ * @author Interview Preparation
+ */
+public class ParallelBracketValidator {
+
+    private static final int DEFAULT_CHUNK_BYTES = 64 << 20;
+    private static final int READ_BUFFER_BYTES = 64 << 10;
+
+    // Bracket type of each ASCII byte: 1..3 opener, -1..-3 closer, 0 other
+    private static final byte[] TYPE = new byte[128];
+
+    static {
+        TYPE['('] = 1;
+        TYPE['['] = 2;
+        TYPE['{'] = 3;
+        TYPE[')'] = -1;
+        TYPE[']'] = -2;
+        TYPE['}'] = -3;
+    }
+
+    private static final char[] OPEN = {0, '(', '[', '{'};
+    private static final char[] CLOSE = {0, ')', ']', '}'};
+
+    /**
+     * Reduced form of a chunk: unmatched closers, then unmatched openers
+     */
+    public static final class Summary {
+        public static final Summary EMPTY = new Summary(new byte[0], 0, new byte[0], 0, false);
+        public static final Summary MISMATCH = new Summary(new byte[0], 0, new byte[0], 0, true);
+
+        private final byte[] closers; // bracket types, in input order
+        private final int closerCount;
+        private final byte[] openers; // bracket types, outermost first
+        private final int openerCount;
+        private final boolean mismatched;
+
+        private Summary(byte[] closers, int closerCount, byte[] openers, int openerCount, boolean mismatched) {
+            this.closers = closers;
+            this.closerCount = closerCount;
+            this.openers = openers;
+            this.openerCount = openerCount;
+            this.mismatched = mismatched;
+        }
+
+        /**
+         * Summary of this chunk followed by next
+         * Time Complexity: O(size of both summaries)
+         */
+        public Summary combine(Summary next) {
+            if (mismatched || next.mismatched) return MISMATCH;
+            if (next.closerCount == 0 && next.openerCount == 0) return this;
+            if (closerCount == 0 && openerCount == 0) return next;
+
+            int open = openerCount;
+            int close = 0;
+            while (open > 0 && close < next.closerCount) {
+                if (openers[open - 1] != next.closers[close]) return MISMATCH;
+                open--;
+                close++;
+            }
+
+            byte[] newClosers = Arrays.copyOf(closers, closerCount + next.closerCount - close);
+            System.arraycopy(next.closers, close, newClosers, closerCount, next.closerCount - close);
+            byte[] newOpeners = Arrays.copyOf(openers, open + next.openerCount);
+            System.arraycopy(next.openers, 0, newOpeners, open, next.openerCount);
+            return new Summary(newClosers, newClosers.length, newOpeners, newOpeners.length, false);
+        }
+
+        public boolean isBalanced() {
+            return !mismatched && closerCount == 0 && openerCount == 0;
+        }
+
+        public boolean isMismatched() { return mismatched; }
+
+        /**
+         * Unmatched closing brackets of the given kind, e.g. unmatchedClosers(')')
+         */
+        public int unmatchedClosers(char bracket) { return count(closers, closerCount, -TYPE[bracket]); }
+
+        /**
+         * Unmatched opening brackets of the given kind, e.g. unmatchedOpeners('(')
+         */
+        public int unmatchedOpeners(char bracket) { return count(openers, openerCount, TYPE[bracket]); }
+
+        private static int count(byte[] types, int n, int type) {
+            int count = 0;
+            for (int i = 0; i < n; i++) if (types[i] == type) count++;
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            if (mismatched) return "MISMATCH";
+            StringBuilder sb = new StringBuilder("\"");
+            for (int i = 0; i < closerCount; i++) sb.append(CLOSE[closers[i]]);
+            sb.append(" | ");
+            for (int i = 0; i < openerCount; i++) sb.append(OPEN[openers[i]]);
+            return sb.append('"').toString();
+        }
+    }
+
+    /**
+     * Incremental per-chunk reducer (one per chunk, single-threaded)
+     */
+    private static final class ChunkScanner {
+        private byte[] closers = new byte[16];
+        private int closerCount;
+        private byte[] openers = new byte[64];
+        private int openerCount;
+        private boolean mismatched;
+
+        /**
+         * Scan bytes [from, to) of buf
+         * @return false once a mismatch has been found
+         */
+        boolean scan(byte[] buf, int from, int to) {
+            for (int i = from; i < to; i++) {
+                int b = buf[i];
+                if (b < 0) continue; // part of a multi-byte UTF-8 character
+                int type = TYPE[b];
+                if (type > 0) {
+                    if (openerCount == openers.length) openers = Arrays.copyOf(openers, openerCount * 2);
+                    openers[openerCount++] = (byte) type;
+                } else if (type < 0) {
+                    if (openerCount > 0) {
+                        if (openers[--openerCount] != -type) {
+                            mismatched = true;
+                            return false;
+                        }
+                    } else {
+                        if (closerCount == closers.length) closers = Arrays.copyOf(closers, closerCount * 2);
+                        closers[closerCount++] = (byte) -type;
+                    }
+                }
+            }
+            return true;
+        }
+
+        Summary summary() {
+            if (mismatched) return Summary.MISMATCH;
+            if (closerCount == 0 && openerCount == 0) return Summary.EMPTY;
+            return new Summary(closers, closerCount, openers, openerCount, false);
+        }
+    }
+
+    // ==================== VALIDATION ====================
+
+    /**
+     * Validate a file using all cores
+     * Time Complexity: O(n / cores)
+     */
+    public static boolean isBalanced(Path file) throws IOException {
+        return summarize(file, DEFAULT_CHUNK_BYTES).isBalanced();
+    }
+
+    /**
+     * Summary of the whole file, computed in parallel over chunks of chunkBytes
+     */
+    public static Summary summarize(Path file, int chunkBytes) throws IOException {
+        if (chunkBytes <= 0) throw new IllegalArgumentException("chunkBytes must be positive");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) Math.max(1, (size + chunkBytes - 1) / chunkBytes);
+            return IntStream.range(0, chunks).parallel()
+                    .mapToObj(c -> scanChunk(channel, (long) c * chunkBytes, Math.min(chunkBytes, size - (long) c * chunkBytes)))
+                    .reduce(Summary.EMPTY, Summary::combine); // reduce keeps chunk order
+        }
+    }
+
+    /**
+     * Same reduction over an in-memory sequence (chars >= 128 are ignored)
+     */
+    public static Summary summarize(CharSequence text) {
+        ChunkScanner scanner = new ChunkScanner();
+        byte[] buf = new byte[Math.min(READ_BUFFER_BYTES, Math.max(1, text.length()))];
+        for (int base = 0; base < text.length(); base += buf.length) {
+            int n = Math.min(buf.length, text.length() - base);
+            for (int i = 0; i < n; i++) {
+                char ch = text.charAt(base + i);
+                buf[i] = ch < 128 ? (byte) ch : (byte) -1;
+            }
+            if (!scanner.scan(buf, 0, n)) break;
+        }
+        return scanner.summary();
+    }
+
+    private static Summary scanChunk(FileChannel channel, long position, long length) {
+        if (length <= 0) return Summary.EMPTY;
+        try {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            ChunkScanner scanner = new ChunkScanner();
+            byte[] buf = new byte[READ_BUFFER_BYTES];
+            while (mapped.hasRemaining()) {
+                int n = Math.min(buf.length, mapped.remaining());
+                mapped.get(buf, 0, n);
+                if (!scanner.scan(buf, 0, n)) break;
+            }
+            return scanner.summary();
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("=== Parallel Bracket Validator Demo ===\n");
+
+        String[] expressions = {"{[()]}", "{[(])}", "((()))", "(()", "([)]", ")(", "{\"a\": [1, (2)]}"};
+        for (String expr : expressions) {
+            System.out.println(expr + " is balanced: " + summarize(expr).isBalanced()
+                    + " (stack version: " + Stack.isBalancedParentheses(expr) + ")");
+        }
+
+        // Combining chunk summaries, including a pair split across chunks
+        Summary left = summarize("{[(x)");
+        Summary right = summarize("]}(");
+        System.out.println("\n" + left + " + " + right + " = " + left.combine(right)
+                + ", unmatched '(': " + left.combine(right).unmatchedOpeners('('));
+        System.out.println(summarize("([") + " + " + summarize(")]") + " = " + summarize("([").combine(summarize(")]")));
+
+        // Random agreement check with tiny chunks, so most pairs cross chunk edges
+        java.util.Random random = new java.util.Random(11);
+        Path small = Files.createTempFile("brackets", ".txt");
+        int agree = 0;
+        int trials = 300;
+        for (int t = 0; t < trials; t++) {
+            String text = randomBrackets(random, 1 + random.nextInt(60), random.nextInt(4) == 0);
+            Files.write(small, text.getBytes(StandardCharsets.UTF_8));
+            if (summarize(small, 1 + random.nextInt(7)).isBalanced() == Stack.isBalancedParentheses(text)) agree++;
+        }
+        Files.delete(small);
+        System.out.println("\nAgrees with isBalancedParentheses on " + agree + "/" + trials + " random inputs");
+
+        // Large generated JSON-like file
+        Path big = Files.createTempFile("brackets-big", ".json");
+        try (OutputStream out = Files.newOutputStream(big)) {
+            byte[] record = "{\"id\": [1, 2, {\"tags\": [\"x\", \"y\"]}], \"f\": (3)}, ".getBytes(StandardCharsets.UTF_8);
+            out.write('[');
+            for (int i = 0; i < 4_000_000; i++) out.write(record);
+            out.write(']');
+        }
+        long start = System.nanoTime();
+        boolean balanced = isBalanced(big);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long bytes = Files.size(big);
+        System.out.printf("%n%d MB file balanced: %s, %.0f MB/s on %d cores%n", bytes >> 20, balanced,
+                bytes / seconds / (1 << 20), Runtime.getRuntime().availableProcessors());
+        Files.delete(big);
+
+        System.out.println("\n=== Parallel Bracket Validator Demo Complete ===");
+    }
+
+    private static String randomBrackets(java.util.Random random, int pairs, boolean corrupt) {
+        StringBuilder sb = new StringBuilder();
+        StringBuilder open = new StringBuilder();
+        String opens = "([{";
+        String closes = ")]}";
+        for (int i = 0; i < pairs; i++) {
+            if (open.length() > 0 && random.nextBoolean()) {
+                sb.append(closes.charAt(opens.indexOf(open.charAt(open.length() - 1))));
+                open.setLength(open.length() - 1);
+            } else {
+                char ch = opens.charAt(random.nextInt(3));
+                sb.append(ch).append(random.nextBoolean() ? "a" : "");
+                open.append(ch);
+            }
+        }
+        for (int i = open.length() - 1; i >= 0; i--) sb.append(closes.charAt(opens.indexOf(open.charAt(i))));
+        if (corrupt && sb.length() > 0) {
+            int pos = random.nextInt(sb.length());
+            sb.setCharAt(pos, "()[]{}".charAt(random.nextInt(6)));
+        }
+        return sb.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package Stack;
 
+import java.util.Arrays;
 import java.util.EmptyStackException;
 
 /**
@@ -11,6 +12,7 @@ import java.util.EmptyStackException;
  * Implementations:
  * 1. Array-based Stack
  * 2. LinkedList-based Stack
+ * 3. Growable primitive stacks (IntStack, LongStack, DoubleStack)
  * 
  * Operations:
  * - Push: Add element to top
@@ -255,6 +257,287 @@ public class Stack {
         }
     }
     
+    // ======================= GROWABLE PRIMITIVE STACKS =======================
+    
+    /**
+     * Growable int stack
+     * Doubles its backing array instead of refusing a push, no per-push allocation
+     */
+    public static class IntStack {
+        private int[] elements;
+        private int size;
+        
+        public IntStack() {
+            this(16);
+        }
+        
+        /**
+         * Constructor
+         * @param initialCapacity Initial capacity (grows as needed)
+         */
+        public IntStack(int initialCapacity) {
+            this.elements = new int[Math.max(1, initialCapacity)];
+        }
+        
+        /**
+         * Push element onto stack
+         * Time Complexity: O(1) amortized
+         */
+        public void push(int data) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = data;
+        }
+        
+        /**
+         * Push length elements of src, src[from] first (ends up deepest)
+         * Time Complexity: O(length)
+         */
+        public void pushAll(int[] src, int from, int length) {
+            ensureCapacity(size + length);
+            System.arraycopy(src, from, elements, size, length);
+            size += length;
+        }
+        
+        public void pushAll(int[] src) {
+            pushAll(src, 0, src.length);
+        }
+        
+        /**
+         * Pop element from stack
+         * @throws EmptyStackException if stack is empty
+         * Time Complexity: O(1)
+         */
+        public int pop() {
+            if (size == 0) {
+                throw new EmptyStackException();
+            }
+            return elements[--size];
+        }
+        
+        /**
+         * Pop up to dst.length elements, top of stack first
+         * @return Number of elements popped
+         * Time Complexity: O(popped)
+         */
+        public int popInto(int[] dst) {
+            int n = Math.min(dst.length, size);
+            for (int i = 0; i < n; i++) {
+                dst[i] = elements[--size];
+            }
+            return n;
+        }
+        
+        /**
+         * Peek at top element without removing
+         * @throws EmptyStackException if stack is empty
+         * Time Complexity: O(1)
+         */
+        public int peek() {
+            if (size == 0) {
+                throw new EmptyStackException();
+            }
+            return elements[size - 1];
+        }
+        
+        public boolean isEmpty() { return size == 0; }
+        public int size() { return size; }
+        public void clear() { size = 0; }
+        
+        private void ensureCapacity(int capacity) {
+            if (capacity > elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+            }
+        }
+    }
+    
+    /**
+     * Growable long stack
+     * Doubles its backing array instead of refusing a push, no per-push allocation
+     */
+    public static class LongStack {
+        private long[] elements;
+        private int size;
+        
+        public LongStack() {
+            this(16);
+        }
+        
+        /**
+         * Constructor
+         * @param initialCapacity Initial capacity (grows as needed)
+         */
+        public LongStack(int initialCapacity) {
+            this.elements = new long[Math.max(1, initialCapacity)];
+        }
+        
+        /**
+         * Push element onto stack
+         * Time Complexity: O(1) amortized
+         */
+        public void push(long data) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = data;
+        }
+        
+        /**
+         * Push length elements of src, src[from] first (ends up deepest)
+         * Time Complexity: O(length)
+         */
+        public void pushAll(long[] src, int from, int length) {
+            ensureCapacity(size + length);
+            System.arraycopy(src, from, elements, size, length);
+            size += length;
+        }
+        
+        public void pushAll(long[] src) {
+            pushAll(src, 0, src.length);
+        }
+        
+        /**
+         * Pop element from stack
+         * @throws EmptyStackException if stack is empty
+         * Time Complexity: O(1)
+         */
+        public long pop() {
+            if (size == 0) {
+                throw new EmptyStackException();
+            }
+            return elements[--size];
+        }
+        
+        /**
+         * Pop up to dst.length elements, top of stack first
+         * @return Number of elements popped
+         * Time Complexity: O(popped)
+         */
+        public int popInto(long[] dst) {
+            int n = Math.min(dst.length, size);
+            for (int i = 0; i < n; i++) {
+                dst[i] = elements[--size];
+            }
+            return n;
+        }
+        
+        /**
+         * Peek at top element without removing
+         * @throws EmptyStackException if stack is empty
+         * Time Complexity: O(1)
+         */
+        public long peek() {
+            if (size == 0) {
+                throw new EmptyStackException();
+            }
+            return elements[size - 1];
+        }
+        
+        public boolean isEmpty() { return size == 0; }
+        public int size() { return size; }
+        public void clear() { size = 0; }
+        
+        private void ensureCapacity(int capacity) {
+            if (capacity > elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+            }
+        }
+    }
+    
+    /**
+     * Growable double stack
+     * Doubles its backing array instead of refusing a push, no per-push allocation
+     */
+    public static class DoubleStack {
+        private double[] elements;
+        private int size;
+        
+        public DoubleStack() {
+            this(16);
+        }
+        
+        /**
+         * Constructor
+         * @param initialCapacity Initial capacity (grows as needed)
+         */
+        public DoubleStack(int initialCapacity) {
+            this.elements = new double[Math.max(1, initialCapacity)];
+        }
+        
+        /**
+         * Push element onto stack
+         * Time Complexity: O(1) amortized
+         */
+        public void push(double data) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = data;
+        }
+        
+        /**
+         * Push length elements of src, src[from] first (ends up deepest)
+         * Time Complexity: O(length)
+         */
+        public void pushAll(double[] src, int from, int length) {
+            ensureCapacity(size + length);
+            System.arraycopy(src, from, elements, size, length);
+            size += length;
+        }
+        
+        public void pushAll(double[] src) {
+            pushAll(src, 0, src.length);
+        }
+        
+        /**
+         * Pop element from stack
+         * @throws EmptyStackException if stack is empty
+         * Time Complexity: O(1)
+         */
+        public double pop() {
+            if (size == 0) {
+                throw new EmptyStackException();
+            }
+            return elements[--size];
+        }
+        
+        /**
+         * Pop up to dst.length elements, top of stack first
+         * @return Number of elements popped
+         * Time Complexity: O(popped)
+         */
+        public int popInto(double[] dst) {
+            int n = Math.min(dst.length, size);
+            for (int i = 0; i < n; i++) {
+                dst[i] = elements[--size];
+            }
+            return n;
+        }
+        
+        /**
+         * Peek at top element without removing
+         * @throws EmptyStackException if stack is empty
+         * Time Complexity: O(1)
+         */
+        public double peek() {
+            if (size == 0) {
+                throw new EmptyStackException();
+            }
+            return elements[size - 1];
+        }
+        
+        public boolean isEmpty() { return size == 0; }
+        public int size() { return size; }
+        public void clear() { size = 0; }
+        
+        private void ensureCapacity(int capacity) {
+            if (capacity > elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+            }
+        }
+    }
+    
     // ======================= STACK APPLICATIONS =======================
     
     /**
@@ -297,7 +580,7 @@ public class Stack {
      * @return Result of evaluation
      */
     public static int evaluatePostfix(String expression) {
-        LinkedStack stack = new LinkedStack();
+        IntStack stack = new IntStack();
         String[] tokens = expression.split(" ");
         
         for (String token : tokens) {
@@ -356,7 +639,7 @@ public class Stack {
     public static int[] nextGreaterElement(int[] arr) {
         int n = arr.length;
         int[] result = new int[n];
-        LinkedStack stack = new LinkedStack();
+        IntStack stack = new IntStack();
         
         // Initialize result array with -1
         for (int i = 0; i < n; i++) {
@@ -442,8 +725,25 @@ public class Stack {
         linkedStack.display();
         System.out.println("Is empty: " + linkedStack.isEmpty());
         
+        // Test Growable Primitive Stacks
+        System.out.println("\n3. Testing Growable Primitive Stacks:");
+        IntStack intStack = new IntStack(2);
+        intStack.pushAll(new int[] {1, 2, 3, 4, 5});
+        intStack.push(6);
+        System.out.println("Size after growing past capacity 2: " + intStack.size());
+        System.out.println("Peek: " + intStack.peek() + ", Pop: " + intStack.pop());
+        int[] popped = new int[3];
+        int count = intStack.popInto(popped);
+        System.out.print("popInto(3): ");
+        for (int i = 0; i < count; i++) System.out.print(popped[i] + " ");
+        System.out.println("(remaining " + intStack.size() + ")");
+        DoubleStack doubleStack = new DoubleStack();
+        doubleStack.push(1.5);
+        doubleStack.push(2.25);
+        System.out.println("DoubleStack pop: " + doubleStack.pop());
+        
         // Test Stack Applications
-        System.out.println("\n3. Testing Stack Applications:");
+        System.out.println("\n4. Testing Stack Applications:");
         
         // Balanced parentheses
         System.out.println("--- Balanced Parentheses ---");
@@ -482,7 +782,7 @@ public class Stack {
         System.out.println();
         
         // Test edge cases
-        System.out.println("\n4. Testing Edge Cases:");
+        System.out.println("\n5. Testing Edge Cases:");
         
         // Stack overflow
         try {
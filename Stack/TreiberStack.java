@@ -0,0 +1,318 @@
+package Stack;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free Treiber Stack with Elimination Backoff
+ *
+ * Thread-safe replacement for a lock around Stack.LinkedStack (e.g. a shared free list).
+ *
+ * Treiber stack: the top node is published with a single CAS on head.
+ * - push: node.next = head; CAS(head, node.next, node)
+ * - pop:  h = head; CAS(head, h, h.next)
+ * Nodes are never reused, so the classic ABA problem cannot occur (the GC keeps a
+ * node alive while any thread still holds it).
+ *
+ * Elimination backoff: under contention the CAS on head fails repeatedly. Instead of
+ * retrying at once, a failed push parks its node in a random slot of a small
+ * elimination array for a few spins; a failed pop that finds a parked node takes it
+ * with one CAS on the slot. The push and the pop cancel out without touching head,
+ * so contention on head drops as more threads join - the busier the stack, the more
+ * operations are eliminated.
+ *
+ * Time Complexities: push / pop / peek O(1) expected (lock-free); size O(n)
+ *
+ * @author Interview Preparation
+ */
+public class TreiberStack<T> {
+
+    private static final class Node<T> {
+        final T item;
+        Node<T> next;
+
+        Node(T item) {
+            this.item = item;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<TreiberStack, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(TreiberStack.class, Node.class, "head");
+
+    private static final int ELIMINATION_SPINS = 64;
+
+    private volatile Node<T> head;
+    private final AtomicReferenceArray<Node<T>> elimination; // parked push nodes, null = free
+    private final LongAdder eliminated = new LongAdder();
+
+    /**
+     * Constructor
+     * @param eliminationSlots Size of the elimination array (0 disables elimination)
+     */
+    public TreiberStack(int eliminationSlots) {
+        this.elimination = eliminationSlots > 0 ? new AtomicReferenceArray<>(eliminationSlots) : null;
+    }
+
+    /**
+     * Elimination array sized to half the available processors
+     */
+    public TreiberStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    // ==================== STACK OPERATIONS ====================
+
+    /**
+     * Push element onto stack
+     * @throws NullPointerException if item is null
+     * Time Complexity: O(1) expected
+     */
+    public void push(T item) {
+        if (item == null) throw new NullPointerException("Null items are not supported");
+        Node<T> node = new Node<>(item);
+        while (true) {
+            Node<T> h = head;
+            node.next = h;
+            if (HEAD.compareAndSet(this, h, node)) {
+                return;
+            }
+            if (elimination != null && tryEliminatePush(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pop top element
+     * @return Top element, or null if the stack is empty
+     * Time Complexity: O(1) expected
+     */
+    public T poll() {
+        while (true) {
+            Node<T> h = head;
+            if (h == null) {
+                return null;
+            }
+            if (HEAD.compareAndSet(this, h, h.next)) {
+                return h.item;
+            }
+            if (elimination != null) {
+                T item = tryEliminatePop();
+                if (item != null) return item;
+            }
+        }
+    }
+
+    /**
+     * Pop top element
+     * @throws EmptyStackException if stack is empty
+     */
+    public T pop() {
+        T item = poll();
+        if (item == null) {
+            throw new EmptyStackException();
+        }
+        return item;
+    }
+
+    /**
+     * Top element without removing it, or null if empty
+     */
+    public T peek() {
+        Node<T> h = head;
+        return h == null ? null : h.item;
+    }
+
+    public boolean isEmpty() { return head == null; }
+
+    /**
+     * Number of elements (a snapshot walk, exact only when no thread is modifying)
+     * Time Complexity: O(n)
+     */
+    public int size() {
+        int count = 0;
+        for (Node<T> n = head; n != null; n = n.next) count++;
+        return count;
+    }
+
+    /**
+     * Number of push/pop pairs that met in the elimination array
+     */
+    public long eliminations() { return eliminated.sum(); }
+
+    // ==================== ELIMINATION ====================
+
+    /**
+     * Park node in a random free slot for a few spins
+     * @return true if a pop took it (the push is complete)
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        if (!elimination.compareAndSet(slot, null, node)) {
+            return false; // slot busy, go back to head
+        }
+        for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+            if (elimination.get(slot) != node) {
+                return true; // a pop took it
+            }
+            Thread.onSpinWait();
+        }
+        // Withdraw; failing means a pop took it at the last moment
+        return !elimination.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Take a parked push node from a random slot
+     * @return Its item, or null if the slot had none
+     */
+    private T tryEliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        Node<T> node = elimination.get(slot);
+        if (node != null && elimination.compareAndSet(slot, node, null)) {
+            eliminated.increment();
+            return node.item;
+        }
+        return null;
+    }
+
+    // ======================= BENCHMARK =======================
+
+    /**
+     * Minimal stack view so all implementations run the same loop
+     */
+    private interface StackAdapter {
+        void push(Integer value);
+        Integer pop(); // null when empty
+    }
+
+    private static StackAdapter adapter(String name) {
+        switch (name) {
+            case "Treiber+elimination": {
+                TreiberStack<Integer> s = new TreiberStack<>();
+                return new StackAdapter() {
+                    public void push(Integer value) { s.push(value); }
+                    public Integer pop() { return s.poll(); }
+                };
+            }
+            case "Treiber": {
+                TreiberStack<Integer> s = new TreiberStack<>(0);
+                return new StackAdapter() {
+                    public void push(Integer value) { s.push(value); }
+                    public Integer pop() { return s.poll(); }
+                };
+            }
+            case "ConcurrentLinkedDeque": {
+                ConcurrentLinkedDeque<Integer> s = new ConcurrentLinkedDeque<>();
+                return new StackAdapter() {
+                    public void push(Integer value) { s.push(value); }
+                    public Integer pop() { return s.pollFirst(); }
+                };
+            }
+            case "synchronized LinkedStack": {
+                Stack.LinkedStack s = new Stack.LinkedStack();
+                return new StackAdapter() {
+                    public void push(Integer value) { synchronized (s) { s.push(value); } }
+                    public Integer pop() { synchronized (s) { return s.isEmpty() ? null : s.pop(); } }
+                };
+            }
+            default:
+                throw new IllegalArgumentException("Unknown stack: " + name);
+        }
+    }
+
+    /**
+     * Every thread alternates push and pop, like threads sharing a free list
+     * @return Throughput in million operations per second
+     */
+    private static double benchmark(String name, int threads, int opsPerThread) throws InterruptedException {
+        StackAdapter stack = adapter(name);
+        for (int i = 0; i < 64; i++) stack.push(i); // free list starts non-empty
+        Integer token = 42;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < opsPerThread; i += 2) {
+                    stack.push(token);
+                    stack.pop();
+                }
+            });
+        }
+        long start = System.nanoTime();
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        return (long) threads * opsPerThread / ((System.nanoTime() - start) / 1e3);
+    }
+
+    // ======================= MAIN METHOD FOR TESTING =======================
+
+    /**
+     * Main method: basic operations plus throughput comparison
+     * @param args Optional: operations per thread (default 200,000)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Treiber Stack Demo ===\n");
+
+        TreiberStack<String> stack = new TreiberStack<>();
+        stack.push("a");
+        stack.push("b");
+        stack.push("c");
+        System.out.println("Peek: " + stack.peek() + ", size: " + stack.size());
+        System.out.println("Pop: " + stack.pop() + ", pop: " + stack.pop() + ", pop: " + stack.pop());
+        System.out.println("Poll on empty: " + stack.poll());
+        try {
+            stack.pop();
+        } catch (EmptyStackException e) {
+            System.out.println("Caught stack underflow: EmptyStackException");
+        }
+
+        // Correctness under contention: every pushed value is popped exactly once
+        TreiberStack<Integer> shared = new TreiberStack<>(4);
+        int threads = 8;
+        int perThread = 100_000;
+        java.util.concurrent.atomic.AtomicIntegerArray seen = new java.util.concurrent.atomic.AtomicIntegerArray(threads * perThread);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    shared.push(base + i);
+                    Integer value = shared.poll();
+                    if (value != null) seen.incrementAndGet(value);
+                }
+            });
+        }
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        Integer rest;
+        while ((rest = shared.poll()) != null) seen.incrementAndGet(rest);
+        boolean exactlyOnce = true;
+        for (int i = 0; i < seen.length(); i++) if (seen.get(i) != 1) exactlyOnce = false;
+        System.out.println("\n" + threads * perThread + " values pushed and popped exactly once: " + exactlyOnce
+                + " (" + shared.eliminations() + " eliminated)");
+
+        int opsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        String[] names = {"Treiber+elimination", "Treiber", "ConcurrentLinkedDeque", "synchronized LinkedStack"};
+        int[] threadCounts = {1, 2, 4, 8, 16, 32, 64};
+
+        System.out.println("\n--- Throughput (M ops/s, " + opsPerThread + " ops per thread) ---");
+        System.out.printf("%-8s", "threads");
+        for (String name : names) System.out.printf("%26s", name);
+        System.out.println();
+
+        for (int count : threadCounts) {
+            System.out.printf("%-8d", count);
+            for (String name : names) {
+                benchmark(name, count, opsPerThread / 10); // warm-up
+                System.out.printf("%26.1f", benchmark(name, count, opsPerThread));
+            }
+            System.out.println();
+        }
+
+        System.out.println("\n=== Treiber Stack Demo Complete ===");
+    }
+}